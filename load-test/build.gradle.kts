@@ -0,0 +1,44 @@
+plugins {
+    id("java")
+    application
+}
+
+group = "reactocraft"
+version = "1.0-SNAPSHOT"
+
+repositories {
+    mavenCentral()
+    maven { url = uri("https://jitpack.io/") }
+}
+
+dependencies {
+    implementation(project(":server-core"))
+
+    implementation("net.java.dev.jna:jna:5.12.1")
+    implementation("io.projectreactor:reactor-core:3.8.0-M5")
+}
+
+java {
+    toolchain.languageVersion.set(JavaLanguageVersion.of(21))
+}
+
+application {
+    mainClass.set("reactocraft.loadtest.LoadTest")
+    applicationDefaultJvmArgs = listOf("--add-modules=jdk.incubator.vector")
+}
+
+// Keep chunk_cache/ and other run output out of the source tree.
+tasks.named<JavaExec>("run") {
+    val runDir = layout.buildDirectory.dir("load-test-run").get().asFile
+    workingDir = runDir
+    doFirst { runDir.mkdirs() }
+}
+
+tasks.register<JavaExec>("runWorldgenBenchmark") {
+    classpath = sourceSets["main"].runtimeClasspath
+    mainClass.set("reactocraft.loadtest.WorldgenBenchmark")
+    jvmArgs = listOf(
+        "-Djava.library.path=${rootDir}/native-worldgen/target/release",
+        "--add-modules=jdk.incubator.vector"
+    )
+}
@@ -0,0 +1,47 @@
+package reactocraft.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * Collects raw nanosecond samples and reports percentiles. Samples are kept in full
+ * so percentiles are exact; a run produces at most a few million of them.
+ */
+public class LatencyRecorder {
+    private long[] samples = new long[1024];
+    private int count;
+
+    public synchronized void record(long nanos) {
+        if (count == samples.length) {
+            samples = Arrays.copyOf(samples, count * 2);
+        }
+        samples[count++] = nanos;
+    }
+
+    public synchronized int count() {
+        return count;
+    }
+
+    public synchronized String summary() {
+        if (count == 0) {
+            return "no samples";
+        }
+        long[] sorted = Arrays.copyOf(samples, count);
+        Arrays.sort(sorted);
+        long total = 0;
+        for (long s : sorted) total += s;
+
+        return String.format("n=%d avg=%.2fms p50=%.2fms p90=%.2fms p99=%.2fms p99.9=%.2fms max=%.2fms",
+                count,
+                total / (double) count / 1_000_000.0,
+                percentile(sorted, 0.50),
+                percentile(sorted, 0.90),
+                percentile(sorted, 0.99),
+                percentile(sorted, 0.999),
+                sorted[count - 1] / 1_000_000.0);
+    }
+
+    private static double percentile(long[] sorted, double p) {
+        int index = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, index))] / 1_000_000.0;
+    }
+}
@@ -0,0 +1,204 @@
+package reactocraft.loadtest;
+
+import reactocraft.core.chunk.ChunkManager;
+import reactocraft.core.world.WorldConfig;
+import reactocraft.core.worldgen.NativeChunkGenerator;
+import reactocraft.core.worldgen.Worldgen;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Headless load generator: drives simulated players against an in-process {@link ChunkManager}
+ * at 20 TPS and reports chunk load latency, MSPT, heap, GC and disk writes.
+ *
+ * <p>Run with {@code ./gradlew :load-test:run --args="--players=200 --ticks=2400"}.
+ * Chunks come from the in-process stub worldgen unless {@code --worldgen=java|native|auto} is passed.
+ * Storage goes to a temporary directory removed after the run, or to {@code --storage=<dir>},
+ * which must be empty or missing and is kept for inspection.
+ */
+public class LoadTest {
+    private static final long TICK_NANOS = 50_000_000L;
+
+    public static void main(String[] args) {
+        LoadTestConfig config = LoadTestConfig.parse(args);
+        System.out.println("Load test: " + config);
+        // Always start from empty storage so a run never loads what an earlier run saved.
+        Path storageRoot = createStorage(config.storage());
+        System.out.println("Storage: " + storageRoot.toAbsolutePath());
+
+        ChunkManager manager = new ChunkManager(WorldConfig.builder("loadtest")
+                .storageRoot(storageRoot)
+                .seed(config.seed())
+                .generator(config.worldgen().equals("stub")
+                        ? new NativeChunkGenerator(new StubWorldGen())
+                        : Worldgen.selectGenerator(config.worldgen(), config.seed()))
+                .shards(config.shards())
+                .build());
+        manager.startAutoGc();
+
+        LatencyRecorder chunkLoads = new LatencyRecorder();
+        AtomicLong chunkHits = new AtomicLong();
+        LatencyRecorder mspt = new LatencyRecorder();
+        AtomicLong failedLoads = new AtomicLong();
+        AtomicLong edits = new AtomicLong();
+
+        Map<String, long[]> gcBefore = gcSnapshot();
+        long writtenBefore = diskBytesWritten();
+        long startNanos = System.nanoTime();
+
+        List<SimulatedPlayer> players = new ArrayList<>(config.players());
+        for (int i = 0; i < config.players(); i++) {
+            players.add(new SimulatedPlayer(i, manager, config));
+        }
+
+        long nextTick = System.nanoTime();
+        for (int tick = 1; tick <= config.ticks(); tick++) {
+            long tickStart = System.nanoTime();
+
+            for (SimulatedPlayer player : players) {
+                player.tick(chunkLoads, chunkHits, failedLoads, edits);
+            }
+            manager.getTickScheduler().tick().block();
+            if (tick % config.saveIntervalTicks() == 0) {
+                manager.saveDirtyChunks().subscribe(
+                        unused -> { },
+                        err -> System.err.println("Save failed: " + err.getMessage()));
+            }
+
+            mspt.record(System.nanoTime() - tickStart);
+            if (tick % 200 == 0) {
+                System.out.println("tick " + tick + ": chunk loads " + chunkLoads.count()
+                        + ", edits " + edits.get() + ", entities " + manager.getEntityIndex().getLiveCount());
+            }
+
+            nextTick += TICK_NANOS;
+            long sleep = nextTick - System.nanoTime();
+            if (sleep > 0) {
+                LockSupport.parkNanos(sleep);
+            } else {
+                nextTick = System.nanoTime();
+            }
+        }
+
+        System.out.println("Unloading remaining chunks...");
+        manager.unloadAllChunks().block();
+        manager.close();
+        double seconds = (System.nanoTime() - startNanos) / 1_000_000_000.0;
+
+        System.out.println();
+        System.out.println("=== Load test report ===");
+        System.out.printf("Wall time:          %.1fs for %d ticks%n", seconds, config.ticks());
+        System.out.println("Chunk load latency: " + chunkLoads.summary());
+        System.out.println("Chunk hits:         " + chunkHits.get() + " (already loaded, not timed)");
+        System.out.println("Failed chunk loads: " + failedLoads.get());
+        System.out.println("MSPT:               " + mspt.summary());
+        System.out.println("Block edits:        " + edits.get());
+        printHeap();
+        printGc(gcBefore);
+
+        long writtenAfter = diskBytesWritten();
+        System.out.println("Disk bytes written: " + (writtenBefore >= 0 && writtenAfter >= 0
+                ? String.valueOf(writtenAfter - writtenBefore)
+                : "n/a (no /proc/self/io)") + ", storage size " + directorySize(storageRoot));
+        if (config.storage() == null) {
+            deleteDirectory(storageRoot);
+        }
+
+        // Non-zero exit when any chunk failed to load, so scripted runs can gate on it.
+        System.exit(failedLoads.get() == 0 ? 0 : 1);
+    }
+
+    private static void printHeap() {
+        MemoryUsage heap = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage();
+        long peak = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                peak += pool.getPeakUsage().getUsed();
+            }
+        }
+        System.out.printf("Heap:               used %dMB, committed %dMB, max %dMB, summed pool peaks %dMB%n",
+                heap.getUsed() >> 20, heap.getCommitted() >> 20, heap.getMax() >> 20, peak >> 20);
+    }
+
+    private static Map<String, long[]> gcSnapshot() {
+        Map<String, long[]> snapshot = new HashMap<>();
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            snapshot.put(gc.getName(), new long[]{gc.getCollectionCount(), gc.getCollectionTime()});
+        }
+        return snapshot;
+    }
+
+    private static void printGc(Map<String, long[]> before) {
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            long[] start = before.getOrDefault(gc.getName(), new long[2]);
+            System.out.printf("GC %-16s %d collections, %dms%n",
+                    gc.getName() + ":", gc.getCollectionCount() - start[0], gc.getCollectionTime() - start[1]);
+        }
+    }
+
+    // Bytes this process caused to be written to storage; -1 where /proc is unavailable.
+    private static long diskBytesWritten() {
+        try {
+            for (String line : Files.readAllLines(Path.of("/proc/self/io"))) {
+                if (line.startsWith("write_bytes:")) {
+                    return Long.parseLong(line.substring("write_bytes:".length()).trim());
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            // Not Linux, or /proc is restricted.
+        }
+        return -1;
+    }
+
+    private static Path createStorage(Path requested) {
+        try {
+            if (requested == null) {
+                return Files.createTempDirectory("reactocraft-loadtest");
+            }
+            // Never clears anything: pointing this at a real world must not destroy it.
+            if (Files.isDirectory(requested)) {
+                try (var entries = Files.list(requested)) {
+                    if (entries.findAny().isPresent()) {
+                        throw new IllegalArgumentException("--storage directory is not empty: " + requested);
+                    }
+                }
+            }
+            return Files.createDirectories(requested);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not create load test storage", e);
+        }
+    }
+
+    private static void deleteDirectory(Path dir) {
+        if (!Files.exists(dir)) return;
+        try (var files = Files.walk(dir)) {
+            files.sorted(Comparator.reverseOrder()).forEach(p -> p.toFile().delete());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not clear " + dir, e);
+        }
+    }
+
+    private static long directorySize(Path dir) {
+        if (!Files.exists(dir)) return 0;
+        try (var files = Files.walk(dir)) {
+            return files.filter(Files::isRegularFile).mapToLong(p -> p.toFile().length()).sum();
+        } catch (IOException e) {
+            return -1;
+        }
+    }
+}
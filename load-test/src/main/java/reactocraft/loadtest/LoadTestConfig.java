@@ -0,0 +1,65 @@
+package reactocraft.loadtest;
+
+import java.nio.file.Path;
+
+/**
+ * Load test knobs, parsed from {@code --name=value} arguments. {@code storage} is null
+ * unless {@code --storage=} names a directory; the run then uses a fresh temporary one.
+ */
+public record LoadTestConfig(
+        int players,
+        int ticks,
+        long seed,
+        int viewRadius,
+        double blocksPerTick,
+        int worldRadius,
+        double editChance,
+        int saveIntervalTicks,
+        String worldgen,
+        int shards,
+        Path storage
+) {
+
+    public static LoadTestConfig defaults() {
+        return new LoadTestConfig(50, 1200, 42L, 4, 0.5, 2048, 0.05, 200, "stub", 1, null);
+    }
+
+    public static LoadTestConfig parse(String[] args) {
+        LoadTestConfig c = defaults();
+        int players = c.players;
+        int ticks = c.ticks;
+        long seed = c.seed;
+        int viewRadius = c.viewRadius;
+        double blocksPerTick = c.blocksPerTick;
+        int worldRadius = c.worldRadius;
+        double editChance = c.editChance;
+        int saveIntervalTicks = c.saveIntervalTicks;
+        String worldgen = c.worldgen;
+        int shards = c.shards;
+        Path storage = c.storage;
+
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value, got: " + arg);
+            }
+            String name = arg.substring(2, arg.indexOf('='));
+            String value = arg.substring(arg.indexOf('=') + 1);
+            switch (name) {
+                case "players" -> players = Integer.parseInt(value);
+                case "ticks" -> ticks = Integer.parseInt(value);
+                case "seed" -> seed = Long.parseLong(value);
+                case "view-radius" -> viewRadius = Integer.parseInt(value);
+                case "speed" -> blocksPerTick = Double.parseDouble(value);
+                case "world-radius" -> worldRadius = Integer.parseInt(value);
+                case "edit-chance" -> editChance = Double.parseDouble(value);
+                case "save-interval" -> saveIntervalTicks = Integer.parseInt(value);
+                case "worldgen" -> worldgen = value;
+                case "shards" -> shards = Integer.parseInt(value);
+                case "storage" -> storage = Path.of(value);
+                default -> throw new IllegalArgumentException("Unknown option: --" + name);
+            }
+        }
+        return new LoadTestConfig(players, ticks, seed, viewRadius, blocksPerTick, worldRadius,
+                editChance, saveIntervalTicks, worldgen, shards, storage);
+    }
+}
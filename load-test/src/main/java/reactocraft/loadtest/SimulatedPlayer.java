@@ -0,0 +1,136 @@
+package reactocraft.loadtest;
+
+import reactocraft.core.chunk.ChunkManager;
+import reactocraft.core.chunk.ChunkPos;
+import reactocraft.core.chunk.FullChunk;
+import reactocraft.core.entity.Entity;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A headless player walking a seeded path. Half of the players roam between random
+ * waypoints; the other half shuttle between two fixed spots, which is what drives
+ * chunks through eviction and back.
+ */
+public class SimulatedPlayer {
+    private static final double STAND_Y = 5.0;
+
+    private final ChunkManager manager;
+    private final LoadTestConfig config;
+    private final SplittableRandom random;
+    private final Entity entity;
+    private final boolean shuttle;
+    private final double homeX, homeZ, awayX, awayZ;
+
+    private final Set<ChunkPos> requested = new HashSet<>();
+    private double x, z;
+    private double targetX, targetZ;
+    private boolean headingAway;
+    private int lastChunkX = Integer.MIN_VALUE, lastChunkZ = Integer.MIN_VALUE;
+
+    public SimulatedPlayer(int id, ChunkManager manager, LoadTestConfig config) {
+        this.manager = manager;
+        this.config = config;
+        this.random = new SplittableRandom(config.seed() * 31 + id);
+        this.shuttle = (id & 1) == 1;
+
+        this.homeX = randomCoord();
+        this.homeZ = randomCoord();
+        this.awayX = randomCoord();
+        this.awayZ = randomCoord();
+        this.x = homeX;
+        this.z = homeZ;
+        pickTarget();
+
+        this.entity = new Entity(Entity.PLAYER_TYPE, x, STAND_Y, z, 0.6f, 1.8f);
+        manager.getEntityIndex().spawn(entity);
+    }
+
+    private double randomCoord() {
+        return random.nextInt(-config.worldRadius(), config.worldRadius()) + 0.5;
+    }
+
+    private void pickTarget() {
+        if (shuttle) {
+            headingAway = !headingAway;
+            targetX = headingAway ? awayX : homeX;
+            targetZ = headingAway ? awayZ : homeZ;
+        } else {
+            targetX = randomCoord();
+            targetZ = randomCoord();
+        }
+    }
+
+    public void tick(LatencyRecorder chunkLoads, AtomicLong chunkHits, AtomicLong failedLoads, AtomicLong edits) {
+        move();
+
+        int chunkX = (int) Math.floor(x) >> 4;
+        int chunkZ = (int) Math.floor(z) >> 4;
+        if (chunkX != lastChunkX || chunkZ != lastChunkZ) {
+            lastChunkX = chunkX;
+            lastChunkZ = chunkZ;
+            requestChunksAround(chunkX, chunkZ, chunkLoads, chunkHits, failedLoads);
+        }
+
+        if (random.nextDouble() < config.editChance()) {
+            // Drawn before the loaded check, which depends on load timing, so the random stream
+            // and with it every player's path stay the same from run to run.
+            int editX = random.nextInt(16);
+            int editY = 5 + random.nextInt(16);
+            int editZ = random.nextInt(16);
+            int blockId = 1 + random.nextInt(10);
+            FullChunk chunk = manager.getLoadedChunk(chunkX, chunkZ);
+            if (chunk != null) {
+                chunk.setBlock(editX, editY, editZ, blockId);
+                edits.incrementAndGet();
+            }
+        }
+    }
+
+    private void move() {
+        double dx = targetX - x;
+        double dz = targetZ - z;
+        double dist = Math.sqrt(dx * dx + dz * dz);
+        if (dist <= config.blocksPerTick()) {
+            x = targetX;
+            z = targetZ;
+            pickTarget();
+        } else {
+            x += dx / dist * config.blocksPerTick();
+            z += dz / dist * config.blocksPerTick();
+        }
+        manager.getEntityIndex().move(entity, x, STAND_Y, z);
+    }
+
+    private void requestChunksAround(int chunkX, int chunkZ, LatencyRecorder chunkLoads, AtomicLong chunkHits,
+                                     AtomicLong failedLoads) {
+        int radius = config.viewRadius();
+        Iterator<ChunkPos> it = requested.iterator();
+        while (it.hasNext()) {
+            ChunkPos pos = it.next();
+            if (Math.abs(pos.x() - chunkX) > radius || Math.abs(pos.z() - chunkZ) > radius) {
+                it.remove();
+            }
+        }
+
+        for (int cx = chunkX - radius; cx <= chunkX + radius; cx++) {
+            for (int cz = chunkZ - radius; cz <= chunkZ + radius; cz++) {
+                if (!requested.add(new ChunkPos(cx, cz))) continue;
+                // Already in memory: a map lookup, counted but kept out of the load latency.
+                if (manager.getLoadedChunk(cx, cz) != null) {
+                    chunkHits.incrementAndGet();
+                    continue;
+                }
+
+                long start = System.nanoTime();
+                manager.getChunk(cx, cz).subscribe(
+                        chunk -> chunkLoads.record(System.nanoTime() - start),
+                        err -> failedLoads.incrementAndGet());
+            }
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package reactocraft.loadtest;
+
+import com.sun.jna.Memory;
+import com.sun.jna.Pointer;
+import com.sun.jna.ptr.IntByReference;
+import reactocraft.core.chunk.FullChunk;
+import reactocraft.core.worldgen.IWorldGen;
+
+/**
+ * In-process stand-in for the native worldgen library, so the load test runs on hosts
+ * without {@code libworldgen}. Produces the same flat layout as the Rust generator.
+ */
+public class StubWorldGen implements IWorldGen {
+
+    private static final byte[] FLAT_CHUNK = buildFlatChunk();
+
+    private static byte[] buildFlatChunk() {
+        int layer = FullChunk.CHUNK_SIZE * FullChunk.CHUNK_SIZE;
+        byte[] data = new byte[layer * FullChunk.HEIGHT];
+        for (int y = 0; y < FullChunk.HEIGHT; y++) {
+            byte blockId = switch (y) {
+                case 0 -> 3;          // bedrock
+                case 1, 2, 3 -> 2;    // dirt
+                case 4 -> 1;          // grass
+                default -> 0;         // air
+            };
+            for (int i = 0; i < layer; i++) {
+                data[y * layer + i] = blockId;
+            }
+        }
+        return data;
+    }
+
+    private static Pointer copyOut(IntByReference outLen) {
+        Memory buffer = new Memory(FLAT_CHUNK.length);
+        buffer.write(0, FLAT_CHUNK, 0, FLAT_CHUNK.length);
+        outLen.setValue(FLAT_CHUNK.length);
+        return buffer;
+    }
+
+    @Override
+    public Pointer generate_chunk(int x, int y, IntByReference outLen) {
+        return copyOut(outLen);
+    }
+
+    @Override
+    public Pointer generate_flat_chunk(int x, int y, IntByReference outLen) {
+        return copyOut(outLen);
+    }
+
+    @Override
+    public void free_buffer(Pointer buf, int len) {
+        // Memory is released by JNA once the buffer is unreachable.
+    }
+}
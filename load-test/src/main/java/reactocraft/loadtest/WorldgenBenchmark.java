@@ -0,0 +1,91 @@
+package reactocraft.loadtest;
+
+import reactocraft.core.chunk.ChunkPos;
+import reactocraft.core.chunk.FullChunk;
+import reactocraft.core.worldgen.ChunkGenerator;
+import reactocraft.core.worldgen.JavaChunkGenerator;
+import reactocraft.core.worldgen.PerlinNoise;
+import reactocraft.core.worldgen.Worldgen;
+import reactocraft.core.worldgen.WorldType;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compares chunk generation throughput of the available generators, single-threaded and
+ * across the parallel scheduler. The native generator is skipped when the library is missing.
+ *
+ * <p>Run with {@code ./gradlew :load-test:runWorldgenBenchmark --args="--chunks=20000"}.
+ */
+public class WorldgenBenchmark {
+    private static final int WARMUP_ROUNDS = 3;
+
+    public static void main(String[] args) {
+        int chunks = 20_000;
+        for (String arg : args) {
+            if (arg.startsWith("--chunks=")) {
+                chunks = Integer.parseInt(arg.substring("--chunks=".length()));
+            }
+        }
+
+        List<ChunkGenerator> generators = new ArrayList<>();
+        generators.add(new JavaChunkGenerator(0L));
+        try {
+            generators.add(Worldgen.selectGenerator("native"));
+        } catch (LinkageError e) {
+            System.out.println("native: unavailable (" + e.getMessage() + ")");
+        }
+        System.out.println("Vector API available: " + JavaChunkGenerator.isVectorApiAvailable());
+
+        for (ChunkGenerator generator : generators) {
+            for (WorldType type : WorldType.values()) {
+                for (int i = 0; i < WARMUP_ROUNDS; i++) {
+                    runSingle(generator, type, chunks / 4);
+                }
+                double single = runSingle(generator, type, chunks);
+                double parallel = runParallel(generator, type, chunks);
+                System.out.printf("%-12s %-6s single %10.0f chunks/s   parallel %10.0f chunks/s%n",
+                        generator.getName(), type, single, parallel);
+            }
+        }
+
+        noiseOnly(chunks);
+        System.exit(0);
+    }
+
+    private static double runSingle(ChunkGenerator generator, WorldType type, int chunks) {
+        long start = System.nanoTime();
+        for (int i = 0; i < chunks; i++) {
+            generator.generate(new FullChunk(i % 256, i / 256), type);
+        }
+        return chunks / ((System.nanoTime() - start) / 1_000_000_000.0);
+    }
+
+    private static double runParallel(ChunkGenerator generator, WorldType type, int chunks) {
+        List<ChunkPos> positions = new ArrayList<>(chunks);
+        for (int i = 0; i < chunks; i++) {
+            positions.add(new ChunkPos(i % 256, i / 256));
+        }
+        long start = System.nanoTime();
+        Worldgen.generateChunksAsync(positions, type, generator).then().block();
+        return chunks / ((System.nanoTime() - start) / 1_000_000_000.0);
+    }
+
+    // Noise sampling alone, scalar against the generator's own (vector when available) path.
+    private static void noiseOnly(int chunks) {
+        PerlinNoise scalar = new PerlinNoise(0L);
+        float[] out = new float[256];
+        for (PerlinNoise noise : List.of(scalar, new JavaChunkGenerator(0L).getNoise())) {
+            for (int round = 0; round <= WARMUP_ROUNDS; round++) {
+                long start = System.nanoTime();
+                for (int i = 0; i < chunks; i++) {
+                    noise.sampleChunk((i % 256) << 4, (i / 256) << 4, 0.05, out);
+                }
+                if (round == WARMUP_ROUNDS) {
+                    double rate = chunks / ((System.nanoTime() - start) / 1_000_000_000.0);
+                    System.out.printf("noise %-20s %10.0f chunks/s%n", noise.getClass().getSimpleName(), rate);
+                }
+            }
+        }
+    }
+}
@@ -17,8 +17,12 @@ dependencies {
 
 application {
     mainClass.set("reactocraft.Main")
+    applicationDefaultJvmArgs = listOf("--add-modules=jdk.incubator.vector")
 }
 
 tasks.named<JavaExec>("run") {
-    jvmArgs = listOf("-Djava.library.path=${rootDir}/native-worldgen/target/release")
+    jvmArgs = listOf(
+        "-Djava.library.path=${rootDir}/native-worldgen/target/release",
+        "--add-modules=jdk.incubator.vector"
+    )
 }
@@ -14,8 +14,24 @@ dependencies {
     implementation("net.java.dev.jna:jna:5.12.1")
     implementation("io.projectreactor:reactor-core:3.8.0-M5")
     implementation("com.github.Querz:NBT:6.1")
+
+    testImplementation(platform("org.junit:junit-bom:5.10.2"))
+    testImplementation("org.junit.jupiter:junit-jupiter")
+    testRuntimeOnly("org.junit.platform:junit-platform-launcher")
 }
 
 java {
     toolchain.languageVersion.set(JavaLanguageVersion.of(21))
 }
+
+// VectorPerlinNoise uses the incubating Vector API; JavaChunkGenerator falls back to scalar
+// noise when a launcher does not add the module at runtime.
+tasks.withType<JavaCompile>().configureEach {
+    options.compilerArgs.add("--add-modules=jdk.incubator.vector")
+}
+
+tasks.test {
+    useJUnitPlatform()
+    // VectorPerlinNoiseTest loads the vector class directly.
+    jvmArgs("--add-modules=jdk.incubator.vector")
+}
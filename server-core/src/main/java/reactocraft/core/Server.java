@@ -2,15 +2,23 @@ package reactocraft.core;
 
 import reactocraft.core.chunk.ChunkManager;
 import reactocraft.core.chunk.FullChunk;
+import reactocraft.core.world.WorldConfig;
+import reactocraft.core.world.WorldManager;
 import reactor.core.publisher.Mono;
 
+import java.nio.file.Path;
+
 public class Server {
 
     public static void main(String[] args) {
         System.out.println("Starting ReactoCraft server...");
 
-        ChunkManager chunkManager = new ChunkManager();
-        chunkManager.startAutoGc();
+        WorldManager worlds = new WorldManager();
+        // The overworld keeps the original chunk_cache/ location so existing saves still load.
+        ChunkManager chunkManager = worlds.createWorld(WorldConfig.builder("overworld")
+                .storageRoot(Path.of("chunk_cache"))
+                .build());
+        chunkManager.getTickScheduler().start();
 
         // Load chunk 0,0
         Mono<FullChunk> chunkMono = chunkManager.getChunk(0, 0);
@@ -33,18 +41,18 @@ public class Server {
             chunkManager.listLoadedChunks();
 
             // Cleanup: unload all chunks gracefully
-            chunkManager.unloadAllChunks()
-                    .doFinally(signal -> {
-                        System.out.println("All chunks unloaded. Stopping GC.");
-                        chunkManager.stopAutoGc();
-                    })
+            worlds.unloadAll()
+                    .doFinally(signal -> System.out.println("All worlds unloaded and closed."))
                     .block();
-        });
+        }, err -> System.err.println("Failed to load chunk 0,0: " + err.getMessage()));
 
         try {
             Thread.sleep(60000);
         } catch (InterruptedException e) {
             e.printStackTrace();
+        } finally {
+            // Closes whatever the demo above did not, e.g. when the first load failed.
+            worlds.unloadAll().block();
         }
     }
 }
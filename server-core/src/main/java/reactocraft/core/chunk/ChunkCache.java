@@ -4,126 +4,309 @@ import net.querz.nbt.io.NamedTag;
 import net.querz.nbt.io.NBTUtil;
 import net.querz.nbt.tag.CompoundTag;
 import net.querz.nbt.tag.ListTag;
+import reactocraft.core.entity.BlockEntity;
+import reactocraft.core.entity.Entity;
+import reactocraft.core.tick.ScheduledTick;
 import reactor.core.publisher.Mono;
-import reactor.core.scheduler.Schedulers;
+import reactor.core.scheduler.Scheduler;
 
 import java.io.File;
 import java.io.IOException;
-import java.util.Set;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
 
+/**
+ * Disk storage for one world (or one shard of it). Everything lives under {@code directory}.
+ * The {@code Mono} methods run on {@code ioScheduler}; their blocking counterparts
+ * ({@code read*}/{@code write*}) are for callers already on one of its threads, which must
+ * not block on work queued behind themselves.
+ */
 public class ChunkCache {
 
-    private static final String CACHE_DIR = "chunk_cache/";
+    private final File directory;
+    private final Scheduler ioScheduler;
+    private final RegionFileCache regions;
+
+    public ChunkCache(File directory, Scheduler ioScheduler, int maxOpenRegions) {
+        this.directory = directory;
+        this.ioScheduler = ioScheduler;
+        this.regions = new RegionFileCache(new File(directory, "region"), maxOpenRegions);
+    }
 
     public Mono<Void> saveChunkToDisk(FullChunk chunk) {
         return Mono.fromRunnable(() -> {
-            CompoundTag root = new CompoundTag();
-            root.putInt("chunkX", chunk.getChunkX());
-            root.putInt("chunkZ", chunk.getChunkZ());
-
-            ListTag<CompoundTag> sectionsList = new ListTag<>(CompoundTag.class);
-
-            for (int i = 0; i < chunk.sections.size(); i++) {
-                ChunkSection section = chunk.getSection(i);
-                CompoundTag sectionTag = new CompoundTag();
-                sectionTag.putInt("yIndex", i);
-                sectionTag.putByteArray("blocks", section.getRawData());
-                sectionsList.add(sectionTag);
-            }
-
-            root.put("sections", sectionsList);
-
             try {
-                NBTUtil.write(root, CACHE_DIR + chunk.getChunkX() + "_" + chunk.getChunkZ() + ".dat");
+                writeChunk(chunk);
             } catch (IOException e) {
                 throw new RuntimeException(e);
             }
-        }).subscribeOn(Schedulers.boundedElastic()).then();
+        }).subscribeOn(ioScheduler).then();
+    }
+
+    public void writeChunk(FullChunk chunk) throws IOException {
+        regions.getRegion(chunk.getChunkX(), chunk.getChunkZ(), true).writeChunk(chunk);
+        // The slot now has every edit; replaying old partial changes over it would undo newer ones.
+        File partial = chunkFile(chunk.getChunkX(), chunk.getChunkZ(), "_partial");
+        if (partial.exists()) partial.delete();
     }
 
     public Mono<FullChunk> loadChunkFromDisk(int chunkX, int chunkZ) {
         return Mono.fromCallable(() -> {
-            String filePath = CACHE_DIR + chunkX + "_" + chunkZ + ".dat";
-            File file = new File(filePath);
-            if (!file.exists() || file.length() == 0) {
-                return null;
-            }
-
-            NamedTag namedTag = NBTUtil.read(filePath);
-            CompoundTag root = (CompoundTag) namedTag.getTag();
+            FullChunk chunk = readRegionChunk(chunkX, chunkZ);
+            return chunk != null ? chunk : readLegacyChunk(chunkX, chunkZ);
+        }).subscribeOn(ioScheduler);
+    }
 
-            int loadedChunkX = root.getInt("chunkX");
-            int loadedChunkZ = root.getInt("chunkZ");
+    /**
+     * Returns the chunk from its region slot, or {@code null} when the slot is absent or unreadable.
+     */
+    public FullChunk readRegionChunk(int chunkX, int chunkZ) throws IOException {
+        RegionFile region = regions.getRegion(chunkX, chunkZ, false);
+        FullChunk chunk = region != null ? region.readChunk(chunkX, chunkZ) : null;
+        if (chunk != null) {
+            chunk.load();
+        }
+        return chunk;
+    }
 
-            FullChunk chunk = new FullChunk(loadedChunkX, loadedChunkZ);
+    public void close() {
+        regions.closeAll();
+    }
 
-            ListTag<CompoundTag> sectionsList = root.getListTag("sections").asCompoundTagList();
-            for (CompoundTag sectionTag : sectionsList) {
-                int yIndex = sectionTag.getInt("yIndex");
-                byte[] blocks = sectionTag.getByteArray("blocks");
-                ChunkSection section = chunk.getSection(yIndex);
-                section.setRawData(blocks);
-            }
+    public File getDirectory() {
+        return directory;
+    }
 
-            chunk.load();
-            return chunk;
-        }).subscribeOn(Schedulers.boundedElastic());
+    private File chunkFile(int chunkX, int chunkZ, String suffix) {
+        return new File(directory, chunkX + "_" + chunkZ + suffix + ".dat");
     }
 
+    // --- Legacy per-chunk NBT files, read only so older caches still load ---
 
-    // --- Partial changes ---
+    public FullChunk readLegacyChunk(int chunkX, int chunkZ) throws IOException {
+        File file = chunkFile(chunkX, chunkZ, "");
+        if (!file.exists() || file.length() == 0) {
+            return null;
+        }
 
-    public Mono<Void> savePartialChanges(int chunkX, int chunkZ, Set<BlockPos> dirtyBlocks, FullChunk chunk) {
+        NamedTag namedTag = NBTUtil.read(file);
+        CompoundTag root = (CompoundTag) namedTag.getTag();
+
+        int loadedChunkX = root.getInt("chunkX");
+        int loadedChunkZ = root.getInt("chunkZ");
+
+        FullChunk chunk = new FullChunk(loadedChunkX, loadedChunkZ);
+
+        ListTag<CompoundTag> sectionsList = root.getListTag("sections").asCompoundTagList();
+        for (CompoundTag sectionTag : sectionsList) {
+            int yIndex = sectionTag.getInt("yIndex");
+            byte[] blocks = sectionTag.getByteArray("blocks");
+            ChunkSection section = chunk.getSection(yIndex);
+            section.setRawData(blocks);
+        }
+        chunk.load();
+        return chunk;
+    }
+
+    // --- Legacy partial changes ---
+
+    /**
+     * Applies block edits saved as NBT by older builds, which only wrote the region slot for
+     * heavily edited chunks. Nothing writes these any more; saving the chunk removes the file.
+     */
+    public Mono<Void> loadPartialChanges(int chunkX, int chunkZ, FullChunk chunk) {
         return Mono.fromRunnable(() -> {
-            CompoundTag root = new CompoundTag();
-            root.putInt("chunkX", chunkX);
-            root.putInt("chunkZ", chunkZ);
-
-            ListTag<CompoundTag> changedBlocksList = new ListTag<>(CompoundTag.class);
-            for (BlockPos pos : dirtyBlocks) {
-                CompoundTag blockTag = new CompoundTag();
-                blockTag.putInt("x", pos.x());
-                blockTag.putInt("y", pos.y());
-                blockTag.putInt("z", pos.z());
-                blockTag.putInt("blockId", chunk.getBlock(pos.x(), pos.y(), pos.z()));
-                changedBlocksList.add(blockTag);
+            try {
+                applyPartialChanges(chunkX, chunkZ, chunk);
+            } catch (IOException e) {
+                throw new RuntimeException(e);
             }
+        }).subscribeOn(ioScheduler).then();
+    }
+
+    public void applyPartialChanges(int chunkX, int chunkZ, FullChunk chunk) throws IOException {
+        File file = chunkFile(chunkX, chunkZ, "_partial");
+        if (!file.exists()) return;
 
-            root.put("changedBlocks", changedBlocksList);
+        NamedTag namedTag = NBTUtil.read(file);
+        CompoundTag root = (CompoundTag) namedTag.getTag();
 
-            String filePath = CACHE_DIR + chunkX + "_" + chunkZ + "_partial.dat";
-            File parent = new File(CACHE_DIR);
-            if (!parent.exists()) parent.mkdirs();
+        ListTag<CompoundTag> changedBlocksList = root.getListTag("changedBlocks").asCompoundTagList();
+        for (CompoundTag blockTag : changedBlocksList) {
+            int x = blockTag.getInt("x");
+            int y = blockTag.getInt("y");
+            int z = blockTag.getInt("z");
+            int blockId = blockTag.getInt("blockId");
+            chunk.setBlock(x, y, z, blockId);
+        }
+    }
+
+    // --- Entities and block entities ---
 
+    public Mono<Void> saveEntities(FullChunk chunk) {
+        return Mono.fromRunnable(() -> {
             try {
-                NBTUtil.write(root, filePath);
+                writeEntities(chunk);
             } catch (IOException e) {
                 throw new RuntimeException(e);
             }
-        }).subscribeOn(Schedulers.boundedElastic()).then();
+        }).subscribeOn(ioScheduler).then();
     }
 
-    public Mono<Void> loadPartialChanges(int chunkX, int chunkZ, FullChunk chunk) {
+    public void writeEntities(FullChunk chunk) throws IOException {
+        File file = chunkFile(chunk.getChunkX(), chunk.getChunkZ(), "_entities");
+
+        ListTag<CompoundTag> entitiesList = new ListTag<>(CompoundTag.class);
+        for (Entity entity : chunk.getEntities()) {
+            // Players are saved with their own data, not with the chunk they stand in.
+            if (entity.isPlayer()) continue;
+
+            CompoundTag entityTag = new CompoundTag();
+            entityTag.putLong("idMost", entity.getId().getMostSignificantBits());
+            entityTag.putLong("idLeast", entity.getId().getLeastSignificantBits());
+            entityTag.putString("type", entity.getType());
+            entityTag.putDouble("x", entity.getX());
+            entityTag.putDouble("y", entity.getY());
+            entityTag.putDouble("z", entity.getZ());
+            entityTag.putFloat("width", entity.getWidth());
+            entityTag.putFloat("height", entity.getHeight());
+            entityTag.put("data", entity.getData());
+            entitiesList.add(entityTag);
+        }
+
+        ListTag<CompoundTag> blockEntitiesList = new ListTag<>(CompoundTag.class);
+        for (BlockEntity blockEntity : chunk.getBlockEntities()) {
+            CompoundTag blockTag = new CompoundTag();
+            blockTag.putInt("x", blockEntity.getPos().x());
+            blockTag.putInt("y", blockEntity.getPos().y());
+            blockTag.putInt("z", blockEntity.getPos().z());
+            blockTag.putString("type", blockEntity.getType());
+            blockTag.put("data", blockEntity.getData());
+            blockEntitiesList.add(blockTag);
+        }
+
+        if (entitiesList.size() == 0 && blockEntitiesList.size() == 0) {
+            if (file.exists()) file.delete();
+            return;
+        }
+
+        CompoundTag root = new CompoundTag();
+        root.putInt("chunkX", chunk.getChunkX());
+        root.putInt("chunkZ", chunk.getChunkZ());
+        root.put("entities", entitiesList);
+        root.put("blockEntities", blockEntitiesList);
+
+        if (!directory.exists()) directory.mkdirs();
+        NBTUtil.write(root, file);
+    }
+
+    public Mono<List<Entity>> loadEntities(int chunkX, int chunkZ, FullChunk chunk) {
+        return Mono.fromCallable(() -> readEntities(chunkX, chunkZ, chunk)).subscribeOn(ioScheduler);
+    }
+
+    /**
+     * Installs saved block entities into {@code chunk} and returns its saved entities.
+     * Entities are not placed into sections here; {@code EntityIndex#activateChunk} does that.
+     */
+    public List<Entity> readEntities(int chunkX, int chunkZ, FullChunk chunk) throws IOException {
+        List<Entity> entities = new ArrayList<>();
+        File file = chunkFile(chunkX, chunkZ, "_entities");
+        if (!file.exists()) return entities;
+
+        NamedTag namedTag = NBTUtil.read(file);
+        CompoundTag root = (CompoundTag) namedTag.getTag();
+
+        for (CompoundTag entityTag : root.getListTag("entities").asCompoundTagList()) {
+            entities.add(new Entity(
+                    new UUID(entityTag.getLong("idMost"), entityTag.getLong("idLeast")),
+                    entityTag.getString("type"),
+                    entityTag.getDouble("x"),
+                    entityTag.getDouble("y"),
+                    entityTag.getDouble("z"),
+                    entityTag.getFloat("width"),
+                    entityTag.getFloat("height"),
+                    entityTag.getCompoundTag("data")));
+        }
+
+        for (CompoundTag blockTag : root.getListTag("blockEntities").asCompoundTagList()) {
+            BlockPos pos = new BlockPos(blockTag.getInt("x"), blockTag.getInt("y"), blockTag.getInt("z"));
+            chunk.getSection(pos.y() / ChunkSection.SECTION_SIZE).setBlockEntity(
+                    pos.x(), pos.y() % ChunkSection.SECTION_SIZE, pos.z(),
+                    new BlockEntity(pos, blockTag.getString("type"), blockTag.getCompoundTag("data")));
+        }
+        return entities;
+    }
+
+    // --- Pending scheduled ticks ---
+
+    public Mono<Void> saveScheduledTicks(FullChunk chunk, long currentTick) {
         return Mono.fromRunnable(() -> {
-            String filePath = CACHE_DIR + chunkX + "_" + chunkZ + "_partial.dat";
-            File file = new File(filePath);
-            if (!file.exists()) return;
+            try {
+                writeScheduledTicks(chunk, chunk.getTickList().snapshot(), currentTick);
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        }).subscribeOn(ioScheduler).then();
+    }
+
+    /**
+     * Writes {@code pending}, a snapshot of the chunk's tick list, replacing what was saved before.
+     */
+    public void writeScheduledTicks(FullChunk chunk, List<ScheduledTick> pending, long currentTick) throws IOException {
+        File file = chunkFile(chunk.getChunkX(), chunk.getChunkZ(), "_ticks");
+        if (pending.isEmpty()) {
+            if (file.exists()) file.delete();
+            return;
+        }
+
+        ListTag<CompoundTag> ticksList = new ListTag<>(CompoundTag.class);
+        for (ScheduledTick tick : pending) {
+            CompoundTag tickTag = new CompoundTag();
+            tickTag.putInt("x", tick.x());
+            tickTag.putInt("y", tick.y());
+            tickTag.putInt("z", tick.z());
+            tickTag.putInt("blockId", tick.blockId());
+            // Stored relative to now so the deadline survives the tick counter restarting.
+            tickTag.putLong("delay", Math.max(1, tick.dueTick() - currentTick));
+            tickTag.putInt("priority", tick.priority());
+            ticksList.add(tickTag);
+        }
+
+        CompoundTag root = new CompoundTag();
+        root.putInt("chunkX", chunk.getChunkX());
+        root.putInt("chunkZ", chunk.getChunkZ());
+        root.put("ticks", ticksList);
 
+        if (!directory.exists()) directory.mkdirs();
+        NBTUtil.write(root, file);
+    }
+
+    public Mono<Void> loadScheduledTicks(int chunkX, int chunkZ, FullChunk chunk, long currentTick) {
+        return Mono.fromRunnable(() -> {
             try {
-                NamedTag namedTag = NBTUtil.read(filePath);
-                CompoundTag root = (CompoundTag) namedTag.getTag();
-
-                ListTag<CompoundTag> changedBlocksList = root.getListTag("changedBlocks").asCompoundTagList();
-                for (CompoundTag blockTag : changedBlocksList) {
-                    int x = blockTag.getInt("x");
-                    int y = blockTag.getInt("y");
-                    int z = blockTag.getInt("z");
-                    int blockId = blockTag.getInt("blockId");
-                    chunk.setBlock(x, y, z, blockId);
-                }
+                readScheduledTicks(chunkX, chunkZ, chunk, currentTick);
             } catch (IOException e) {
                 throw new RuntimeException(e);
             }
-        }).subscribeOn(Schedulers.boundedElastic()).then();
+        }).subscribeOn(ioScheduler).then();
+    }
+
+    public void readScheduledTicks(int chunkX, int chunkZ, FullChunk chunk, long currentTick) throws IOException {
+        File file = chunkFile(chunkX, chunkZ, "_ticks");
+        if (!file.exists()) return;
+
+        NamedTag namedTag = NBTUtil.read(file);
+        CompoundTag root = (CompoundTag) namedTag.getTag();
+
+        for (CompoundTag tickTag : root.getListTag("ticks").asCompoundTagList()) {
+            chunk.getTickList().schedule(
+                    tickTag.getInt("x"),
+                    tickTag.getInt("y"),
+                    tickTag.getInt("z"),
+                    tickTag.getInt("blockId"),
+                    currentTick + tickTag.getLong("delay"),
+                    tickTag.getInt("priority"));
+        }
     }
 }
@@ -1,362 +1,202 @@
 package reactocraft.core.chunk;
 
+import reactocraft.core.entity.EntityIndex;
+import reactocraft.core.tick.BlockTickScheduler;
+import reactocraft.core.world.WorldConfig;
+import reactocraft.core.worldgen.ChunkGenerator;
 import reactocraft.core.worldgen.Worldgen;
-import reactor.core.Disposable;
 import reactor.core.publisher.Mono;
-import reactor.core.scheduler.Schedulers;
+import reactor.core.scheduler.Scheduler;
 
-import java.io.EOFException;
-import java.time.Duration;
-import java.time.Instant;
+import java.nio.file.Path;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.locks.ReentrantLock;
 
+/**
+ * Chunks of one world. Storage root, limits and thread pools come from its {@link WorldConfig}.
+ *
+ * <p>The world is split into {@code shardCount} shards by square groups of
+ * {@code 2^shardShift} chunks. Each shard keeps its own chunk map, region files and
+ * executors, and every call here is routed to the shard owning the chunk. With one shard
+ * this behaves like a single manager.
+ */
 public class ChunkManager {
 
-    private static final long UNLOAD_AFTER_MS = 60_000;
-    private static final int MAX_LOADED_CHUNKS = 256;
-    private static final Duration GC_INTERVAL = Duration.ofSeconds(10);
-    private static final Duration SAVE_DIRTY_INTERVAL = Duration.ofSeconds(30);
-    private static final int MAX_DIRTY_BLOCKS_BEFORE_FULL_SAVE = 1000;
+    private final WorldConfig config;
+    private final ChunkGenerator generator;
+    private final ChunkShard[] shards;
+    private final EntityIndex entities = new EntityIndex(this);
+    private final BlockTickScheduler ticks;
 
-    private final Map<ChunkPos, ManagedChunk> loadedChunks = new ConcurrentHashMap<>();
-    private final Map<SectionLockKey, ReentrantLock> sectionLocks = new ConcurrentHashMap<>();
-    private final Map<ChunkPos, ReentrantLock> chunkLocks = new ConcurrentHashMap<>();
-    private final ChunkCache cache = new ChunkCache();
+    /**
+     * Single-shard world named {@code overworld} stored under {@code chunk_cache/}, the old default location.
+     */
+    public ChunkManager() {
+        this(WorldConfig.builder("overworld").storageRoot(Path.of("chunk_cache")).build());
+    }
 
-    private Disposable gcDisposable;
-    private Disposable saveDisposable;
+    public ChunkManager(WorldConfig config) {
+        this.config = config;
+        this.generator = config.generator() != null ? config.generator() : Worldgen.createGenerator(config.seed());
+        System.out.println("World " + config.name() + " uses the " + generator.getName() + " world generator");
+        this.shards = new ChunkShard[config.shardCount()];
+        for (int i = 0; i < shards.length; i++) {
+            shards[i] = new ChunkShard(this, config, i);
+        }
+        this.ticks = new BlockTickScheduler(this, config.seed());
+    }
 
-    private static class ManagedChunk {
-        final FullChunk chunk;
-        volatile long lastAccess;
-        volatile boolean dirty;
+    private ChunkShard shardFor(int chunkX, int chunkZ) {
+        if (shards.length == 1) {
+            return shards[0];
+        }
+        long h = (long) (chunkX >> config.shardShift()) * 0x9E3779B97F4A7C15L
+                ^ (long) (chunkZ >> config.shardShift()) * 0xC2B2AE3D27D4EB4FL;
+        h ^= h >>> 29;
+        return shards[(int) Math.floorMod(h, (long) shards.length)];
+    }
 
-        final Map<Integer, BitSet> dirtySections = new ConcurrentHashMap<>();
+    public String getName() {
+        return config.name();
+    }
 
-        ManagedChunk(FullChunk chunk) {
-            this.chunk = chunk;
-            this.lastAccess = Instant.now().toEpochMilli();
-            this.dirty = false;
-        }
+    public WorldConfig getConfig() {
+        return config;
+    }
 
-        void touch() {
-            this.lastAccess = Instant.now().toEpochMilli();
-        }
+    public ChunkGenerator getGenerator() {
+        return generator;
+    }
 
-        void markDirty(int x, int y, int z) {
-            int sectionIndex = y / 16;
-            int localX = x & 0xF;
-            int localY = y & 0xF;
-            int localZ = z & 0xF;
-            int blockIndex = (localY << 8) | (localZ << 4) | localX;
+    /**
+     * Compute scheduler of the shard owning the chunk, for CPU work on that area such as ticking.
+     */
+    public Scheduler getWorkerScheduler(int chunkX, int chunkZ) {
+        return shardFor(chunkX, chunkZ).getWorkerScheduler();
+    }
 
-            dirtySections.computeIfAbsent(sectionIndex, k -> new BitSet(4096)).set(blockIndex);
-            this.dirty = true;
-            touch();
+    public synchronized void startAutoGc() {
+        for (ChunkShard shard : shards) {
+            shard.startAutoGc();
         }
+    }
 
-        int getDirtyBlockCount() {
-            return dirtySections.values().stream().mapToInt(BitSet::cardinality).sum();
+    public synchronized void stopAutoGc() {
+        for (ChunkShard shard : shards) {
+            shard.stopAutoGc();
         }
+    }
 
-        void clearDirty() {
-            dirtySections.clear();
-            this.dirty = false;
+    public synchronized void close() {
+        ticks.stop();
+        for (ChunkShard shard : shards) {
+            shard.close();
         }
+    }
 
-        boolean shouldSaveFullChunk(int threshold) {
-            return getDirtyBlockCount() > threshold;
-        }
+    public void markChunkDirty(int chunkX, int chunkZ, int blockX, int blockY, int blockZ) {
+        shardFor(chunkX, chunkZ).markChunkDirty(new ChunkPos(chunkX, chunkZ));
     }
 
+    public void markEntitiesDirty(int chunkX, int chunkZ) {
+        shardFor(chunkX, chunkZ).markEntitiesDirty(new ChunkPos(chunkX, chunkZ));
+    }
 
+    /**
+     * Marks a chunk as needed by someone, e.g. a player's view. Ticketed chunks are never
+     * unloaded for inactivity or to make room; the loaded chunk limit only bounds the rest.
+     * Tickets are counted, so each holder releases only its own with {@link #removeTicket}.
+     */
+    public void addTicket(int chunkX, int chunkZ) {
+        shardFor(chunkX, chunkZ).addTicket(new ChunkPos(chunkX, chunkZ));
+    }
 
-    private ReentrantLock getSectionLock(ChunkPos pos, int sectionIndex) {
-        SectionLockKey key = new SectionLockKey(pos, sectionIndex);
-        return sectionLocks.computeIfAbsent(key, k -> new ReentrantLock());
+    public void removeTicket(int chunkX, int chunkZ) {
+        shardFor(chunkX, chunkZ).removeTicket(new ChunkPos(chunkX, chunkZ));
     }
 
-    public synchronized void startAutoGc() {
-        if (gcDisposable != null && !gcDisposable.isDisposed()) return;
+    public boolean hasTicket(int chunkX, int chunkZ) {
+        return shardFor(chunkX, chunkZ).hasTicket(new ChunkPos(chunkX, chunkZ));
+    }
 
-        gcDisposable = reactor.core.publisher.Flux.interval(GC_INTERVAL)
-                .flatMap(t -> unloadInactiveChunks()
-                        .then(enforceMaxLimitMono()))
-                .subscribeOn(Schedulers.parallel())
-                .subscribe(
-                        unused -> { /* tick */ },
-                        err -> System.err.println("ChunkManager GC error: " + err.getMessage())
-                );
+    public EntityIndex getEntityIndex() {
+        return entities;
+    }
 
-        saveDisposable = reactor.core.publisher.Flux.interval(SAVE_DIRTY_INTERVAL)
-                .flatMap(t -> saveDirtyChunks())
-                .subscribeOn(Schedulers.boundedElastic())
-                .subscribe(
-                        unused -> { /* tick */ },
-                        err -> System.err.println("ChunkManager save error: " + err.getMessage())
-                );
+    public BlockTickScheduler getTickScheduler() {
+        return ticks;
     }
 
-    public synchronized void stopAutoGc() {
-        if (gcDisposable != null && !gcDisposable.isDisposed()) {
-            gcDisposable.dispose();
+    public List<FullChunk> getLoadedChunks() {
+        int count = 0;
+        for (ChunkShard shard : shards) {
+            count += shard.getLoadedCount();
         }
-        if (saveDisposable != null && !saveDisposable.isDisposed()) {
-            saveDisposable.dispose();
+        List<FullChunk> chunks = new ArrayList<>(count);
+        for (ChunkShard shard : shards) {
+            shard.collectLoadedChunks(chunks);
         }
+        return chunks;
     }
 
-    public void markChunkDirty(int chunkX, int chunkZ, int blockX, int blockY, int blockZ) {
-        ChunkPos pos = new ChunkPos(chunkX, chunkZ);
-        int sectionIndex = blockY / 16;
-        ReentrantLock sectionLock = getSectionLock(pos, sectionIndex);
-
-        sectionLock.lock();
-        try {
-            ManagedChunk managed = loadedChunks.get(pos);
-            if (managed != null) {
-                managed.markDirty(blockX, blockY, blockZ);
-            }
-        } finally {
-            sectionLock.unlock();
-        }
+    /**
+     * Returns the chunk if it is already in memory, without loading it or refreshing its access time.
+     */
+    public FullChunk getLoadedChunk(int chunkX, int chunkZ) {
+        return shardFor(chunkX, chunkZ).getLoadedChunk(new ChunkPos(chunkX, chunkZ));
     }
 
     public Mono<FullChunk> getChunk(int chunkX, int chunkZ) {
-        ChunkPos pos = new ChunkPos(chunkX, chunkZ);
-        return Mono.fromCallable(() -> loadedChunks.computeIfAbsent(pos, p -> {
-            enforceMaxLimit();
-            FullChunk chunk = null;
-            try {
-                chunk = cache.loadChunkFromDisk(chunkX, chunkZ)
-                        .onErrorResume(e -> {
-                            if (e instanceof EOFException) {
-                                System.err.println("Chunk file corrupted or empty: " + chunkX + "," + chunkZ + ", ignoring load");
-                                return Mono.empty();
-                            }
-                            return Mono.error(e);
-                        })
-                        .block();
-
-                if (chunk == null) {
-                    chunk = Worldgen.generateChunkAsync(chunkX, chunkZ).block();
-                } else {
-                    cache.loadPartialChanges(chunkX, chunkZ, chunk).block();
-                }
-            } catch (Exception ex) {
-                throw new RuntimeException("Failed to load or generate chunk " + chunkX + "," + chunkZ, ex);
-            }
-
-            assert chunk != null;
-            chunk.setManager(this);
-            return new ManagedChunk(chunk);
-        }).chunk).subscribeOn(Schedulers.boundedElastic());
+        return shardFor(chunkX, chunkZ).getChunk(new ChunkPos(chunkX, chunkZ));
     }
 
     public Mono<Void> unloadChunk(int chunkX, int chunkZ) {
-        ChunkPos pos = new ChunkPos(chunkX, chunkZ);
-        return Mono.fromRunnable(() -> {
-            ManagedChunk managed = loadedChunks.get(pos);
-            if (managed != null) {
-                ReentrantLock lock = getLockFor(pos);
-                lock.lock();
-                try {
-                    if (managed.shouldSaveFullChunk(MAX_DIRTY_BLOCKS_BEFORE_FULL_SAVE)) {
-                        managed.chunk.saveAsync(cache).block();
-                        System.out.println("Full chunk saved on unload for " + chunkX + "," + chunkZ);
-                    } else {
-                        Set<BlockPos> dirtyBlocksSnapshot = getDirtyBlockPositions(managed);
-                        List<ReentrantLock> sectionLocks = acquireSectionLocksForChunk(pos, dirtyBlocksSnapshot);
-                        try {
-                            cache.savePartialChanges(pos.x(), pos.z(), dirtyBlocksSnapshot, managed.chunk).block();
-                            System.out.println("Partial changes saved on unload for " + chunkX + "," + chunkZ);
-                        } finally {
-                            releaseLocks(sectionLocks);
-                        }
-                    }
-                    loadedChunks.remove(pos);
-                    chunkLocks.remove(pos);
-                } finally {
-                    lock.unlock();
-                }
-            }
-        }).subscribeOn(Schedulers.boundedElastic()).then();
-    }
-
-
-
-    private static Set<BlockPos> getBlockPos(ManagedChunk managed) {
-        int sectionCount = managed.chunk.sections.size();  // or however many sections in your chunk
-        Set<BlockPos> allBlocks = new HashSet<>();
-        for (int sectionIdx = 0; sectionIdx < sectionCount; sectionIdx++) {
-            int baseY = sectionIdx * 16;
-            for (int y = baseY; y < baseY + 16; y++) {
-                for (int x = 0; x < 16; x++) {
-                    for (int z = 0; z < 16; z++) {
-                        allBlocks.add(new BlockPos(x, y, z));
-                    }
-                }
-            }
-        }
-        return allBlocks;
+        return shardFor(chunkX, chunkZ).unloadChunk(new ChunkPos(chunkX, chunkZ));
     }
 
     public void listLoadedChunks() {
-        if (loadedChunks.isEmpty()) {
+        int count = 0;
+        for (ChunkShard shard : shards) {
+            count += shard.getLoadedCount();
+        }
+        if (count == 0) {
             System.out.println("No chunks currently loaded in memory.");
             return;
         }
-        System.out.println("Loaded chunks in memory: " + loadedChunks.size());
-        loadedChunks.forEach((pos, managed) ->
-                System.out.println(" - " + pos.x() + "," + pos.z()
-                        + " lastAccess=" + managed.lastAccess
-                        + " dirty=" + managed.dirty));
+        System.out.println("Loaded chunks in memory: " + count);
+        for (ChunkShard shard : shards) {
+            shard.listLoadedChunks();
+        }
     }
 
     public Mono<Void> unloadInactiveChunks() {
-        long now = Instant.now().toEpochMilli();
-        List<Mono<Void>> tasks = new ArrayList<>();
-
-        for (Map.Entry<ChunkPos, ManagedChunk> entry : loadedChunks.entrySet()) {
-            if (now - entry.getValue().lastAccess > UNLOAD_AFTER_MS) {
-                ChunkPos p = entry.getKey();
-                tasks.add(unloadChunk(p.x(), p.z()));
-            }
+        List<Mono<Void>> tasks = new ArrayList<>(shards.length);
+        for (ChunkShard shard : shards) {
+            tasks.add(shard.unloadInactiveChunks());
         }
         return Mono.when(tasks).then();
     }
 
     public Mono<Void> saveDirtyChunks() {
-        List<Mono<Void>> tasks = new ArrayList<>();
-        for (Map.Entry<ChunkPos, ManagedChunk> entry : loadedChunks.entrySet()) {
-            ManagedChunk m = entry.getValue();
-            if (m.dirty) {
-                ChunkPos pos = entry.getKey();
-                if (m.shouldSaveFullChunk(MAX_DIRTY_BLOCKS_BEFORE_FULL_SAVE)) {
-                    Mono<Void> task = Mono.fromRunnable(() -> {
-                        ReentrantLock lock = getLockFor(pos);
-                        lock.lock();
-                        try {
-                            m.chunk.saveAsync(cache).block();
-                            m.clearDirty();
-                            System.out.println("Saved full chunk for " + pos.x() + "," + pos.z() + " due to too many dirty blocks.");
-                        } finally {
-                            lock.unlock();
-                        }
-                    }).subscribeOn(Schedulers.boundedElastic()).then();
-
-                    tasks.add(task);
-                } else {
-                    Set<BlockPos> dirtyBlocksSnapshot = getDirtyBlockPositions(m);
-                    Mono<Void> task = Mono.fromRunnable(() -> {
-                        List<ReentrantLock> sectionLocks = acquireSectionLocksForChunk(pos, dirtyBlocksSnapshot);
-                        try {
-                            cache.savePartialChanges(pos.x(), pos.z(), dirtyBlocksSnapshot, m.chunk).block();
-                            m.clearDirty();
-                            System.out.println("Saved partial changes for chunk " + pos.x() + "," + pos.z() +
-                                    " (" + dirtyBlocksSnapshot.size() + " blocks)");
-                        } finally {
-                            releaseLocks(sectionLocks);
-                        }
-                    }).subscribeOn(Schedulers.boundedElastic()).then();
-
-                    tasks.add(task);
-                }
-            }
+        List<Mono<Void>> tasks = new ArrayList<>(shards.length);
+        for (ChunkShard shard : shards) {
+            tasks.add(shard.saveDirtyChunks());
         }
         return Mono.when(tasks).then();
     }
 
-    private Set<BlockPos> getDirtyBlockPositions(ManagedChunk m) {
-        Set<BlockPos> positions = new HashSet<>();
-        for (Map.Entry<Integer, BitSet> entry : m.dirtySections.entrySet()) {
-            int sectionIndex = entry.getKey();
-            BitSet bits = entry.getValue();
-
-            int baseY = sectionIndex * 16;
-            for (int i = bits.nextSetBit(0); i >= 0; i = bits.nextSetBit(i+1)) {
-                int localX = i & 0xF;
-                int localZ = (i >> 4) & 0xF;
-                int localY = (i >> 8) & 0xF;
-                positions.add(new BlockPos(localX, baseY + localY, localZ));
-            }
-        }
-        return positions;
-    }
-
     public Mono<Void> enforceMaxLimitMono() {
-        return Mono.fromRunnable(this::enforceMaxLimit)
-                .subscribeOn(Schedulers.boundedElastic())
-                .then();
-    }
-
-    private void enforceMaxLimit() {
-        int size = loadedChunks.size();
-        if (size < MAX_LOADED_CHUNKS) {
-            return;
-        }
-        List<Map.Entry<ChunkPos, ManagedChunk>> sorted = new ArrayList<>(loadedChunks.entrySet());
-        sorted.sort(Comparator.comparingLong(e -> e.getValue().lastAccess));
-
-        int chunksToRemove = size - MAX_LOADED_CHUNKS + 1;
-        for (int i = 0; i < chunksToRemove; i++) {
-            ChunkPos pos = sorted.get(i).getKey();
-            unloadChunk(pos.x(), pos.z()).block();
+        List<Mono<Void>> tasks = new ArrayList<>(shards.length);
+        for (ChunkShard shard : shards) {
+            tasks.add(shard.enforceMaxLimitMono());
         }
+        return Mono.when(tasks).then();
     }
 
     public Mono<Void> unloadAllChunks() {
-        List<Mono<Void>> tasks = new ArrayList<>();
-        for (ChunkPos pos : new ArrayList<>(loadedChunks.keySet())) {
-            tasks.add(unloadChunk(pos.x(), pos.z()));
+        List<Mono<Void>> tasks = new ArrayList<>(shards.length);
+        for (ChunkShard shard : shards) {
+            tasks.add(shard.unloadAllChunks());
         }
         return Mono.when(tasks).then();
     }
-
-    private List<ReentrantLock> acquireSectionLocksForChunk(ChunkPos pos, Set<BlockPos> dirtyBlocks) {
-        List<Integer> sectionIndicesToLock = dirtyBlocks.stream()
-                .map(posBlock -> posBlock.y() / 16)
-                .distinct()
-                .sorted()
-                .toList();
-
-        List<ReentrantLock> locks = new ArrayList<>();
-        for (int sectionIndex : sectionIndicesToLock) {
-            ReentrantLock lock = getSectionLock(pos, sectionIndex);
-            lock.lock();
-            locks.add(lock);
-        }
-        return locks;
-    }
-
-    private void releaseLocks(List<ReentrantLock> locks) {
-        for (int i = locks.size() - 1; i >= 0; i--) {
-            locks.get(i).unlock();
-        }
-    }
-
-    private List<ReentrantLock> lockWholeChunk(ChunkPos pos) {
-        ManagedChunk managed = loadedChunks.get(pos);
-        if (managed == null) {
-            return Collections.emptyList();
-        }
-
-        int sectionCount = managed.chunk.sections.size();
-        List<ReentrantLock> locks = new ArrayList<>(sectionCount);
-
-        for (int sectionIndex = 0; sectionIndex < sectionCount; sectionIndex++) {
-            ReentrantLock lock = getSectionLock(pos, sectionIndex);
-            lock.lock();
-            locks.add(lock);
-        }
-
-        return locks;
-    }
-
-    private ReentrantLock getLockFor(ChunkPos pos) {
-        return chunkLocks.computeIfAbsent(pos, k -> new ReentrantLock());
-    }
-
 }
@@ -1,11 +1,24 @@
 package reactocraft.core.chunk;
 
+import reactocraft.core.entity.BlockEntity;
+import reactocraft.core.entity.Entity;
+import reactocraft.core.tick.BlockTickRegistry;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
 public class ChunkSection {
     public static final int SECTION_SIZE = 16;
     public static final int BLOCK_COUNT = SECTION_SIZE * SECTION_SIZE * SECTION_SIZE;
 
     private final byte[] blocks;
     private final int yIndex;
+    private volatile int randomTickableCount;
+
+    private final Set<Entity> entities = ConcurrentHashMap.newKeySet();
+    private final Map<Integer, BlockEntity> blockEntities = new ConcurrentHashMap<>();
 
     public ChunkSection(int yIndex) {
         if (yIndex < 0) throw new IllegalArgumentException("yIndex must be >= 0");
@@ -15,13 +28,27 @@ public class ChunkSection {
 
     public int getBlock(int x, int y, int z) {
         checkBounds(x, y, z);
-        int idx = (y * SECTION_SIZE + z) * SECTION_SIZE + x;
-        return Byte.toUnsignedInt(blocks[idx]);
+        return Byte.toUnsignedInt(blocks[index(x, y, z)]);
     }
 
-    public void setBlock(int x, int y, int z, int blockId) {
+    /**
+     * Synchronized so the block write and the random-tickable count move together when tick
+     * workers and other callers write the same section concurrently.
+     */
+    public synchronized void setBlock(int x, int y, int z, int blockId) {
         checkBounds(x, y, z);
-        blocks[(y * SECTION_SIZE + z) * SECTION_SIZE + x] = (byte) (blockId & 0xFF);
+        int idx = index(x, y, z);
+        boolean wasTickable = BlockTickRegistry.isRandomTickable(Byte.toUnsignedInt(blocks[idx]));
+        blocks[idx] = (byte) (blockId & 0xFF);
+
+        boolean isTickable = BlockTickRegistry.isRandomTickable(blockId);
+        if (wasTickable != isTickable) {
+            randomTickableCount += isTickable ? 1 : -1;
+        }
+    }
+
+    private static int index(int x, int y, int z) {
+        return (y * SECTION_SIZE + z) * SECTION_SIZE + x;
     }
 
     private void checkBounds(int x, int y, int z) {
@@ -38,8 +65,59 @@ public class ChunkSection {
         return blocks;
     }
 
-    public void setRawData(byte[] data) {
+    public synchronized void setRawData(byte[] data) {
         System.arraycopy(data, 0, this.blocks, 0, data.length);
+        recountRandomTickable();
+    }
+
+    public synchronized void recountRandomTickable() {
+        int count = 0;
+        for (byte block : blocks) {
+            if (BlockTickRegistry.isRandomTickable(Byte.toUnsignedInt(block))) count++;
+        }
+        randomTickableCount = count;
+    }
+
+    /**
+     * Number of blocks in this section that take random ticks; sections at zero are skipped entirely.
+     */
+    public int getRandomTickableCount() {
+        return randomTickableCount;
+    }
+
+    // --- Entities bucketed into this section by position ---
+
+    public Set<Entity> getEntities() {
+        return entities;
+    }
+
+    public void addEntity(Entity entity) {
+        entities.add(entity);
+    }
+
+    public void removeEntity(Entity entity) {
+        entities.remove(entity);
+    }
+
+    // --- Block entities, keyed by section-local block index ---
+
+    public BlockEntity getBlockEntity(int x, int y, int z) {
+        checkBounds(x, y, z);
+        return blockEntities.get(index(x, y, z));
+    }
+
+    public void setBlockEntity(int x, int y, int z, BlockEntity blockEntity) {
+        checkBounds(x, y, z);
+        blockEntities.put(index(x, y, z), blockEntity);
+    }
+
+    public BlockEntity removeBlockEntity(int x, int y, int z) {
+        checkBounds(x, y, z);
+        return blockEntities.remove(index(x, y, z));
+    }
+
+    public Collection<BlockEntity> getBlockEntities() {
+        return blockEntities.values();
     }
 
     public int getYIndex() {
@@ -0,0 +1,412 @@
+package reactocraft.core.chunk;
+
+import reactocraft.core.entity.Entity;
+import reactocraft.core.tick.ScheduledTick;
+import reactocraft.core.world.WorldConfig;
+import reactocraft.core.worldgen.Worldgen;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * The chunks of one area of a world, with their own map, locks, region files and thread pools.
+ * Shards of a world never share state, so loading, saving and generating in one area does not
+ * queue behind another. {@link ChunkManager} routes every call to the owning shard.
+ */
+class ChunkShard {
+
+    private final ChunkManager world;
+    private final WorldConfig config;
+    private final int maxLoadedChunks;
+    private final Scheduler ioScheduler;
+    private final Scheduler workerScheduler;
+    private final ChunkCache cache;
+
+    private final Map<ChunkPos, ManagedChunk> loadedChunks = new ConcurrentHashMap<>();
+    private final Map<ChunkPos, ReentrantLock> chunkLocks = new ConcurrentHashMap<>();
+    // One load per position; later callers wait on the first caller's result.
+    private final Map<ChunkPos, CompletableFuture<ManagedChunk>> loading = new ConcurrentHashMap<>();
+    private final Map<ChunkPos, Integer> tickets = new ConcurrentHashMap<>();
+
+    private Disposable gcDisposable;
+    private Disposable saveDisposable;
+
+    ChunkShard(ChunkManager world, WorldConfig config, int index) {
+        this.world = world;
+        this.config = config;
+
+        int shards = config.shardCount();
+        this.maxLoadedChunks = Math.max(WorldConfig.MIN_LOADED_CHUNKS_PER_SHARD, config.maxLoadedChunks() / shards);
+        String prefix = config.name() + "-" + index;
+        // Daemon threads, like Reactor's shared pools, so a world that is never closed does not keep the JVM alive.
+        this.ioScheduler = Schedulers.newBoundedElastic(
+                Math.max(2, config.ioThreads() / shards), Integer.MAX_VALUE, prefix + "-io", 60, true);
+        this.workerScheduler = Schedulers.newParallel(prefix + "-worker", Math.max(1, config.workerThreads() / shards), true);
+        // Shards own whole region files, so they can share the world's directory.
+        this.cache = new ChunkCache(config.storageRoot().toFile(), ioScheduler,
+                Math.max(WorldConfig.MIN_OPEN_REGIONS_PER_SHARD, config.maxOpenRegions() / shards));
+    }
+
+    private static class ManagedChunk {
+        final FullChunk chunk;
+        volatile long lastAccess;
+        volatile boolean dirty;
+        volatile boolean entitiesDirty;
+        // True once the region slot holds this chunk's current blocks; generated chunks start without one.
+        volatile boolean inRegion;
+        // Tick list version last written to disk; only written under the chunk lock.
+        volatile long savedTickVersion;
+
+        ManagedChunk(FullChunk chunk, boolean inRegion) {
+            this.chunk = chunk;
+            this.lastAccess = Instant.now().toEpochMilli();
+            this.dirty = false;
+            this.inRegion = inRegion;
+        }
+
+        void touch() {
+            this.lastAccess = Instant.now().toEpochMilli();
+        }
+
+        void markDirty() {
+            this.dirty = true;
+            touch();
+        }
+    }
+
+    Scheduler getWorkerScheduler() {
+        return workerScheduler;
+    }
+
+    synchronized void startAutoGc() {
+        if (gcDisposable != null && !gcDisposable.isDisposed()) return;
+
+        gcDisposable = Flux.interval(config.gcInterval(), workerScheduler)
+                .flatMap(t -> unloadInactiveChunks()
+                        .then(enforceMaxLimitMono()))
+                .subscribe(
+                        unused -> { /* tick */ },
+                        err -> System.err.println("ChunkManager GC error in " + config.name() + ": " + err.getMessage())
+                );
+
+        saveDisposable = Flux.interval(config.saveDirtyInterval(), workerScheduler)
+                .flatMap(t -> saveDirtyChunks())
+                .subscribe(
+                        unused -> { /* tick */ },
+                        err -> System.err.println("ChunkManager save error in " + config.name() + ": " + err.getMessage())
+                );
+    }
+
+    synchronized void stopAutoGc() {
+        if (gcDisposable != null && !gcDisposable.isDisposed()) {
+            gcDisposable.dispose();
+        }
+        if (saveDisposable != null && !saveDisposable.isDisposed()) {
+            saveDisposable.dispose();
+        }
+    }
+
+    synchronized void close() {
+        stopAutoGc();
+        cache.close();
+        ioScheduler.dispose();
+        workerScheduler.dispose();
+    }
+
+    void markChunkDirty(ChunkPos pos) {
+        ManagedChunk managed = loadedChunks.get(pos);
+        if (managed != null) {
+            managed.markDirty();
+        }
+    }
+
+    void markEntitiesDirty(ChunkPos pos) {
+        ManagedChunk managed = loadedChunks.get(pos);
+        if (managed != null) {
+            managed.entitiesDirty = true;
+        }
+    }
+
+    void addTicket(ChunkPos pos) {
+        tickets.merge(pos, 1, Integer::sum);
+    }
+
+    void removeTicket(ChunkPos pos) {
+        Integer left = tickets.computeIfPresent(pos, (p, count) -> count == 1 ? null : count - 1);
+        ManagedChunk managed = loadedChunks.get(pos);
+        if (left == null && managed != null) {
+            // Idle time for inactivity unloading counts from when the chunk stopped being needed.
+            managed.touch();
+        }
+    }
+
+    boolean hasTicket(ChunkPos pos) {
+        return tickets.containsKey(pos);
+    }
+
+    int getLoadedCount() {
+        return loadedChunks.size();
+    }
+
+    void collectLoadedChunks(List<FullChunk> out) {
+        for (ManagedChunk managed : loadedChunks.values()) {
+            out.add(managed.chunk);
+        }
+    }
+
+    FullChunk getLoadedChunk(ChunkPos pos) {
+        ManagedChunk managed = loadedChunks.get(pos);
+        return managed != null ? managed.chunk : null;
+    }
+
+    Mono<FullChunk> getChunk(ChunkPos pos) {
+        return Mono.defer(() -> {
+            ManagedChunk loaded = loadedChunks.get(pos);
+            if (loaded != null) {
+                return Mono.just(loaded.chunk);
+            }
+            CompletableFuture<ManagedChunk> future = new CompletableFuture<>();
+            CompletableFuture<ManagedChunk> pending = loading.putIfAbsent(pos, future);
+            if (pending != null) {
+                // Waits without holding an I/O thread, which the pending load may need.
+                return Mono.fromFuture(pending).map(m -> m.chunk);
+            }
+            return Mono.fromCallable(() -> {
+                try {
+                    ManagedChunk managed = loadChunk(pos);
+                    future.complete(managed);
+                    return managed.chunk;
+                } catch (Throwable e) {
+                    future.completeExceptionally(e);
+                    throw e;
+                } finally {
+                    loading.remove(pos, future);
+                }
+            }).subscribeOn(ioScheduler);
+        });
+    }
+
+    /**
+     * Reads or generates the chunk and publishes it. Runs on an I/O thread, so disk work is
+     * done inline rather than queued on the same pool and waited for.
+     */
+    private ManagedChunk loadChunk(ChunkPos pos) {
+        int chunkX = pos.x();
+        int chunkZ = pos.z();
+        // Evicting first, outside the chunk lock and the map, keeps the two from waiting on each other.
+        enforceMaxLimit();
+
+        ReentrantLock lock = getLockFor(pos);
+        lock.lock();
+        try {
+            // A load that finished after our map lookup, before we claimed the position.
+            ManagedChunk loaded = loadedChunks.get(pos);
+            if (loaded != null) {
+                return loaded;
+            }
+
+            FullChunk chunk = cache.readRegionChunk(chunkX, chunkZ);
+            boolean inRegion = chunk != null;
+            if (chunk == null) {
+                try {
+                    chunk = cache.readLegacyChunk(chunkX, chunkZ);
+                } catch (EOFException e) {
+                    System.err.println("Chunk file corrupted or empty: " + chunkX + "," + chunkZ + ", ignoring load");
+                }
+            }
+            if (chunk == null) {
+                chunk = Worldgen.generateChunkAsync(chunkX, chunkZ, config.worldType(), world.getGenerator(), workerScheduler)
+                        .block();
+            }
+            if (!inRegion) {
+                // Edits saved by older builds; writing the region slot deletes the file.
+                cache.applyPartialChanges(chunkX, chunkZ, chunk);
+            }
+
+            // Entity and tick files are kept apart from block data, so they are read whether the blocks came from disk or worldgen.
+            long currentTick = world.getTickScheduler().getCurrentTick();
+            List<Entity> savedEntities = cache.readEntities(chunkX, chunkZ, chunk);
+            cache.readScheduledTicks(chunkX, chunkZ, chunk, currentTick);
+            world.getEntityIndex().activateChunk(chunk, savedEntities);
+
+            chunk.setManager(world);
+            ManagedChunk managed = new ManagedChunk(chunk, inRegion);
+            managed.savedTickVersion = chunk.getTickList().getVersion();
+            loadedChunks.put(pos, managed);
+            return managed;
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to load or generate chunk " + chunkX + "," + chunkZ, e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    Mono<Void> unloadChunk(ChunkPos pos) {
+        return Mono.fromRunnable(() -> unloadNow(pos)).subscribeOn(ioScheduler).then();
+    }
+
+    /**
+     * Saves and drops the chunk. Runs on an I/O thread.
+     */
+    private void unloadNow(ChunkPos pos) {
+        ManagedChunk managed = loadedChunks.get(pos);
+        if (managed == null) return;
+
+        ReentrantLock lock = getLockFor(pos);
+        lock.lock();
+        try {
+            // Another unload may have finished, and a reload published a new instance, while we waited.
+            if (loadedChunks.get(pos) != managed) return;
+
+            // Also written when clean but not yet in the region, so the next load is a slot copy, not worldgen.
+            if (managed.dirty || !managed.inRegion) {
+                writeChunk(managed);
+            }
+            cache.writeEntities(managed.chunk);
+            world.getEntityIndex().deactivateChunk(managed.chunk);
+
+            // Out of the map no later tick picks the chunk up, and none is running, so the snapshot is final.
+            List<ScheduledTick> pending = world.getTickScheduler().callBetweenTicks(() -> {
+                loadedChunks.remove(pos, managed);
+                return managed.chunk.getTickList().snapshot();
+            });
+            chunkLocks.remove(pos, lock);
+            cache.writeScheduledTicks(managed.chunk, pending, world.getTickScheduler().getCurrentTick());
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to save chunk " + pos.x() + "," + pos.z(), e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void listLoadedChunks() {
+        loadedChunks.forEach((pos, managed) ->
+                System.out.println(" - " + pos.x() + "," + pos.z()
+                        + " lastAccess=" + managed.lastAccess
+                        + " dirty=" + managed.dirty));
+    }
+
+    Mono<Void> unloadInactiveChunks() {
+        long now = Instant.now().toEpochMilli();
+        long unloadAfterMs = config.unloadAfter().toMillis();
+        List<Mono<Void>> tasks = new ArrayList<>();
+
+        for (Map.Entry<ChunkPos, ManagedChunk> entry : loadedChunks.entrySet()) {
+            if (now - entry.getValue().lastAccess > unloadAfterMs && !tickets.containsKey(entry.getKey())) {
+                tasks.add(unloadChunk(entry.getKey()));
+            }
+        }
+        return Mono.when(tasks).then();
+    }
+
+    Mono<Void> saveDirtyChunks() {
+        List<Mono<Void>> tasks = new ArrayList<>();
+        for (Map.Entry<ChunkPos, ManagedChunk> entry : loadedChunks.entrySet()) {
+            ManagedChunk m = entry.getValue();
+            if (m.dirty || m.entitiesDirty || m.chunk.getTickList().getVersion() != m.savedTickVersion) {
+                ChunkPos pos = entry.getKey();
+                tasks.add(Mono.fromRunnable(() -> saveNow(pos, m)).subscribeOn(ioScheduler).then());
+            }
+        }
+        return Mono.when(tasks).then();
+    }
+
+    private void saveNow(ChunkPos pos, ManagedChunk m) {
+        ReentrantLock lock = getLockFor(pos);
+        lock.lock();
+        try {
+            // The chunk may have been unloaded, and saved, since the scan; its entities are no longer in it.
+            if (loadedChunks.get(pos) != m) return;
+
+            if (m.dirty) {
+                writeChunk(m);
+            }
+            if (m.entitiesDirty) {
+                m.entitiesDirty = false;
+                try {
+                    cache.writeEntities(m.chunk);
+                } catch (IOException e) {
+                    m.entitiesDirty = true;
+                    throw e;
+                }
+            }
+            // Read before the snapshot, so a tick added in between is saved again next time.
+            long tickVersion = m.chunk.getTickList().getVersion();
+            if (tickVersion != m.savedTickVersion) {
+                cache.writeScheduledTicks(m.chunk, m.chunk.getTickList().snapshot(), world.getTickScheduler().getCurrentTick());
+                m.savedTickVersion = tickVersion;
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to save chunk " + pos.x() + "," + pos.z(), e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Copies the chunk into its region slot. Callers hold the chunk lock.
+     */
+    private void writeChunk(ManagedChunk m) {
+        // Cleared before the copy so an edit racing it marks the chunk dirty again.
+        m.dirty = false;
+        try {
+            cache.writeChunk(m.chunk);
+            m.inRegion = true;
+        } catch (IOException e) {
+            m.dirty = true;
+            throw new RuntimeException("Failed to save chunk " + m.chunk.getChunkX() + "," + m.chunk.getChunkZ(), e);
+        } catch (RuntimeException e) {
+            m.dirty = true;
+            throw e;
+        }
+    }
+
+    Mono<Void> enforceMaxLimitMono() {
+        return Mono.fromRunnable(this::enforceMaxLimit)
+                .subscribeOn(ioScheduler)
+                .then();
+    }
+
+    private void enforceMaxLimit() {
+        if (loadedChunks.size() < maxLoadedChunks) {
+            return;
+        }
+        List<Map.Entry<ChunkPos, ManagedChunk>> sorted = new ArrayList<>();
+        for (Map.Entry<ChunkPos, ManagedChunk> entry : loadedChunks.entrySet()) {
+            if (!tickets.containsKey(entry.getKey())) {
+                sorted.add(entry);
+            }
+        }
+        if (sorted.size() < maxLoadedChunks) {
+            return;
+        }
+        sorted.sort(Comparator.comparingLong(e -> e.getValue().lastAccess));
+
+        int chunksToRemove = sorted.size() - maxLoadedChunks + 1;
+        for (int i = 0; i < chunksToRemove; i++) {
+            unloadNow(sorted.get(i).getKey());
+        }
+    }
+
+    Mono<Void> unloadAllChunks() {
+        List<Mono<Void>> tasks = new ArrayList<>();
+        for (ChunkPos pos : new ArrayList<>(loadedChunks.keySet())) {
+            tasks.add(unloadChunk(pos));
+        }
+        return Mono.when(tasks).then();
+    }
+
+    private ReentrantLock getLockFor(ChunkPos pos) {
+        return chunkLocks.computeIfAbsent(pos, k -> new ReentrantLock());
+    }
+}
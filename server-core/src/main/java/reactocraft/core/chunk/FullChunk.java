@@ -1,5 +1,8 @@
 package reactocraft.core.chunk;
 
+import reactocraft.core.entity.BlockEntity;
+import reactocraft.core.entity.Entity;
+import reactocraft.core.tick.ChunkTickList;
 import reactor.core.publisher.Mono;
 
 import java.io.IOException;
@@ -16,6 +19,8 @@ public class FullChunk implements Serializable {
     public final List<ChunkSection> sections;
     private final int chunkX, chunkZ;
 
+    private final transient ChunkTickList tickList = new ChunkTickList();
+
     private transient boolean isLoaded;
     private transient WeakReference<ChunkManager> managerRef;
 
@@ -43,6 +48,15 @@ public class FullChunk implements Serializable {
         }
     }
 
+    private void notifyManagerEntitiesDirty() {
+        if (managerRef != null) {
+            ChunkManager mgr = managerRef.get();
+            if (mgr != null) {
+                mgr.markEntitiesDirty(chunkX, chunkZ);
+            }
+        }
+    }
+
     public ChunkSection getSection(int yIndex) {
         if (yIndex < 0 || yIndex >= sections.size()) {
             throw new IndexOutOfBoundsException("Invalid section index");
@@ -54,11 +68,11 @@ public class FullChunk implements Serializable {
         int sectionY = y / ChunkSection.SECTION_SIZE;
         int localY = y % ChunkSection.SECTION_SIZE;
 
-        int currentBlock = getBlock(x, localY, z);
-        if (currentBlock == blockId) {
+        ChunkSection section = getSection(sectionY);
+        if (section.getBlock(x, localY, z) == blockId) {
             return;
         }
-        getSection(sectionY).setBlock(x, localY, z, blockId);
+        section.setBlock(x, localY, z, blockId);
 
         notifyManagerDirty(x, y, z);
     }
@@ -69,6 +83,46 @@ public class FullChunk implements Serializable {
         return getSection(sectionY).getBlock(x, localY, z);
     }
 
+    public ChunkTickList getTickList() {
+        return tickList;
+    }
+
+    public BlockEntity getBlockEntity(int x, int y, int z) {
+        return getSection(y / ChunkSection.SECTION_SIZE).getBlockEntity(x, y % ChunkSection.SECTION_SIZE, z);
+    }
+
+    public void setBlockEntity(BlockEntity blockEntity) {
+        BlockPos pos = blockEntity.getPos();
+        getSection(pos.y() / ChunkSection.SECTION_SIZE)
+                .setBlockEntity(pos.x(), pos.y() % ChunkSection.SECTION_SIZE, pos.z(), blockEntity);
+        notifyManagerEntitiesDirty();
+    }
+
+    public BlockEntity removeBlockEntity(int x, int y, int z) {
+        BlockEntity removed = getSection(y / ChunkSection.SECTION_SIZE)
+                .removeBlockEntity(x, y % ChunkSection.SECTION_SIZE, z);
+        if (removed != null) {
+            notifyManagerEntitiesDirty();
+        }
+        return removed;
+    }
+
+    public List<BlockEntity> getBlockEntities() {
+        List<BlockEntity> all = new ArrayList<>();
+        for (ChunkSection section : sections) {
+            all.addAll(section.getBlockEntities());
+        }
+        return all;
+    }
+
+    public List<Entity> getEntities() {
+        List<Entity> all = new ArrayList<>();
+        for (ChunkSection section : sections) {
+            all.addAll(section.getEntities());
+        }
+        return all;
+    }
+
     public byte[] getRawData() {
         byte[] data = new byte[ChunkSection.BLOCK_COUNT * SECTION_COUNT];
         int offset = 0;
@@ -0,0 +1,126 @@
+package reactocraft.core.chunk;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.zip.CRC32C;
+
+/**
+ * Fixed-slot region file holding {@link #REGION_SIZE} x {@link #REGION_SIZE} chunks.
+ * The whole file is memory-mapped once, and section payloads are copied straight
+ * between the mapping and {@link ChunkSection} storage without an intermediate tag tree.
+ *
+ * <p>Slot layout: {@code magic, version, chunkX, chunkZ, checksum} followed by the raw
+ * block bytes of every section. The kernel writes dirty pages back in any order, so a crash
+ * mid-save can leave a valid magic over stale blocks; the checksum covers the header fields
+ * and the blocks, and a slot that fails it reads as absent.
+ */
+public class RegionFile {
+    public static final int REGION_SHIFT = 5;
+    public static final int REGION_SIZE = 1 << REGION_SHIFT;
+
+    private static final int MAGIC = 0x52435247; // "RCRG"
+    private static final int FORMAT_VERSION = 2;
+    private static final int HEADER_BYTES = 5 * Integer.BYTES;
+    private static final int SECTION_COUNT = FullChunk.HEIGHT / ChunkSection.SECTION_SIZE;
+    private static final int SLOT_BYTES = HEADER_BYTES + SECTION_COUNT * ChunkSection.BLOCK_COUNT;
+    private static final long FILE_BYTES = (long) SLOT_BYTES * REGION_SIZE * REGION_SIZE;
+
+    private final RandomAccessFile file;
+    private final FileChannel channel;
+    private final MappedByteBuffer mapped;
+
+    public RegionFile(File path) throws IOException {
+        this.file = new RandomAccessFile(path, "rw");
+        this.channel = file.getChannel();
+        if (file.length() < FILE_BYTES) {
+            // Grows sparsely; untouched slots read back as zero and therefore as absent.
+            file.setLength(FILE_BYTES);
+        }
+        this.mapped = channel.map(FileChannel.MapMode.READ_WRITE, 0, FILE_BYTES);
+    }
+
+    public static int toRegionCoord(int chunkCoord) {
+        return chunkCoord >> REGION_SHIFT;
+    }
+
+    private static int slotOffset(int chunkX, int chunkZ) {
+        int localX = chunkX & (REGION_SIZE - 1);
+        int localZ = chunkZ & (REGION_SIZE - 1);
+        return (localZ * REGION_SIZE + localX) * SLOT_BYTES;
+    }
+
+    public boolean hasChunk(int chunkX, int chunkZ) {
+        return mapped.getInt(slotOffset(chunkX, chunkZ)) == MAGIC;
+    }
+
+    /**
+     * Returns the chunk stored in its slot, or {@code null} when the slot is empty, belongs to
+     * another chunk, or fails its checksum.
+     */
+    public FullChunk readChunk(int chunkX, int chunkZ) {
+        int offset = slotOffset(chunkX, chunkZ);
+        if (mapped.getInt(offset) != MAGIC) {
+            return null;
+        }
+        int version = mapped.getInt(offset + Integer.BYTES);
+        if (version != FORMAT_VERSION) {
+            System.err.println("Unsupported region slot version " + version + " for chunk " + chunkX + "," + chunkZ);
+            return null;
+        }
+        int storedX = mapped.getInt(offset + 2 * Integer.BYTES);
+        int storedZ = mapped.getInt(offset + 3 * Integer.BYTES);
+        if (storedX != chunkX || storedZ != chunkZ) {
+            System.err.println("Region slot for chunk " + chunkX + "," + chunkZ + " holds " + storedX + "," + storedZ);
+            return null;
+        }
+
+        FullChunk chunk = new FullChunk(chunkX, chunkZ);
+        int sectionOffset = offset + HEADER_BYTES;
+        for (int i = 0; i < SECTION_COUNT; i++) {
+            mapped.get(sectionOffset, chunk.getSection(i).getRawData());
+            sectionOffset += ChunkSection.BLOCK_COUNT;
+        }
+
+        if (checksum(version, chunkX, chunkZ, chunk.getRawData()) != mapped.getInt(offset + 4 * Integer.BYTES)) {
+            System.err.println("Region slot checksum mismatch for chunk " + chunkX + "," + chunkZ + ", ignoring it");
+            return null;
+        }
+        for (ChunkSection section : chunk.sections) {
+            section.recountRandomTickable();
+        }
+        return chunk;
+    }
+
+    public void writeChunk(FullChunk chunk) {
+        int offset = slotOffset(chunk.getChunkX(), chunk.getChunkZ());
+        // One copy of the blocks, so the checksum matches what is stored even while the chunk is being edited.
+        byte[] blocks = chunk.getRawData();
+
+        mapped.putInt(offset, 0);
+        mapped.put(offset + HEADER_BYTES, blocks);
+        mapped.putInt(offset + Integer.BYTES, FORMAT_VERSION);
+        mapped.putInt(offset + 2 * Integer.BYTES, chunk.getChunkX());
+        mapped.putInt(offset + 3 * Integer.BYTES, chunk.getChunkZ());
+        mapped.putInt(offset + 4 * Integer.BYTES, checksum(FORMAT_VERSION, chunk.getChunkX(), chunk.getChunkZ(), blocks));
+        mapped.putInt(offset, MAGIC);
+    }
+
+    private static int checksum(int version, int chunkX, int chunkZ, byte[] blocks) {
+        CRC32C crc = new CRC32C();
+        crc.update(ByteBuffer.allocate(3 * Integer.BYTES).putInt(version).putInt(chunkX).putInt(chunkZ).flip());
+        crc.update(blocks);
+        return (int) crc.getValue();
+    }
+
+    public void close() throws IOException {
+        mapped.force();
+        // The mapping itself stays valid until it is garbage collected, so readers
+        // still holding this region finish safely after it has been evicted.
+        channel.close();
+        file.close();
+    }
+}
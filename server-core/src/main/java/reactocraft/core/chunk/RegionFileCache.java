@@ -0,0 +1,75 @@
+package reactocraft.core.chunk;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keeps a bounded number of {@link RegionFile} mappings open so that chunks reloaded
+ * after eviction are served from an already mapped window. The least recently used
+ * region is closed once {@code maxOpenRegions} is exceeded. That bounds open files, but
+ * not mapped address space exactly: a closed region stays mapped until its buffer is
+ * garbage collected, so readers still holding it are never left with an unmapped window.
+ */
+public class RegionFileCache {
+
+    private final File directory;
+    private final Map<ChunkPos, RegionFile> regions;
+
+    public RegionFileCache(File directory, int maxOpenRegions) {
+        this.directory = directory;
+        this.regions = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<ChunkPos, RegionFile> eldest) {
+                if (size() <= maxOpenRegions) {
+                    return false;
+                }
+                closeQuietly(eldest.getKey(), eldest.getValue());
+                return true;
+            }
+        };
+    }
+
+    /**
+     * Returns the region holding the given chunk, or {@code null} when {@code create}
+     * is false and no region file exists on disk yet.
+     */
+    public synchronized RegionFile getRegion(int chunkX, int chunkZ, boolean create) throws IOException {
+        ChunkPos key = new ChunkPos(RegionFile.toRegionCoord(chunkX), RegionFile.toRegionCoord(chunkZ));
+        RegionFile region = regions.get(key);
+        if (region != null) {
+            return region;
+        }
+
+        File path = new File(directory, "r." + key.x() + "." + key.z() + ".reg");
+        if (!path.exists()) {
+            if (!create) {
+                return null;
+            }
+            if (!directory.exists()) directory.mkdirs();
+        }
+
+        region = new RegionFile(path);
+        regions.put(key, region);
+        return region;
+    }
+
+    public synchronized void closeAll() {
+        List<Map.Entry<ChunkPos, RegionFile>> open = new ArrayList<>(regions.entrySet());
+        regions.clear();
+        for (Map.Entry<ChunkPos, RegionFile> entry : open) {
+            closeQuietly(entry.getKey(), entry.getValue());
+        }
+    }
+
+    private static void closeQuietly(ChunkPos key, RegionFile region) {
+        try {
+            region.close();
+        } catch (IOException e) {
+            System.err.println("Failed to close region " + key.x() + "," + key.z() + ": " + e.getMessage());
+        }
+    }
+}
@@ -1,3 +0,0 @@
-package reactocraft.core.chunk;
-
-public record SectionLockKey(ChunkPos pos, int sectionIndex) {}
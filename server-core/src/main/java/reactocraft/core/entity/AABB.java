@@ -0,0 +1,15 @@
+package reactocraft.core.entity;
+
+public record AABB(double minX, double minY, double minZ, double maxX, double maxY, double maxZ) {
+
+    public boolean intersects(AABB other) {
+        return minX < other.maxX && maxX > other.minX
+                && minY < other.maxY && maxY > other.minY
+                && minZ < other.maxZ && maxZ > other.minZ;
+    }
+
+    public AABB grow(double amount) {
+        return new AABB(minX - amount, minY - amount, minZ - amount,
+                maxX + amount, maxY + amount, maxZ + amount);
+    }
+}
@@ -0,0 +1,36 @@
+package reactocraft.core.entity;
+
+import net.querz.nbt.tag.CompoundTag;
+import reactocraft.core.chunk.BlockPos;
+
+/**
+ * Extra state attached to a single block, e.g. a chest inventory or sign text.
+ * The position is chunk-local on x/z and absolute on y, matching {@code FullChunk#setBlock}.
+ */
+public class BlockEntity {
+    private final BlockPos pos;
+    private final String type;
+    private final CompoundTag data;
+
+    public BlockEntity(BlockPos pos, String type, CompoundTag data) {
+        this.pos = pos;
+        this.type = type;
+        this.data = data;
+    }
+
+    public BlockEntity(BlockPos pos, String type) {
+        this(pos, type, new CompoundTag());
+    }
+
+    public BlockPos getPos() {
+        return pos;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public CompoundTag getData() {
+        return data;
+    }
+}
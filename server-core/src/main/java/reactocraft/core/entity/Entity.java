@@ -0,0 +1,120 @@
+package reactocraft.core.entity;
+
+import net.querz.nbt.tag.CompoundTag;
+import reactocraft.core.chunk.ChunkSection;
+import reactocraft.core.chunk.FullChunk;
+
+import java.util.UUID;
+
+public class Entity {
+    public static final String PLAYER_TYPE = "player";
+
+    private final UUID id;
+    private final String type;
+    private final float width;
+    private final float height;
+    private final CompoundTag data;
+
+    private volatile double x, y, z;
+    private volatile boolean dormant;
+    private volatile boolean removed;
+
+    // Section this entity is currently bucketed in; owned by EntityIndex.
+    FullChunk chunk;
+    ChunkSection section;
+
+    public Entity(UUID id, String type, double x, double y, double z, float width, float height, CompoundTag data) {
+        this.id = id;
+        this.type = type;
+        this.x = x;
+        this.y = y;
+        this.z = z;
+        this.width = width;
+        this.height = height;
+        this.data = data;
+    }
+
+    public Entity(String type, double x, double y, double z, float width, float height) {
+        this(UUID.randomUUID(), type, x, y, z, width, height, new CompoundTag());
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public boolean isPlayer() {
+        return PLAYER_TYPE.equals(type);
+    }
+
+    public double getX() {
+        return x;
+    }
+
+    public double getY() {
+        return y;
+    }
+
+    public double getZ() {
+        return z;
+    }
+
+    void setPosition(double x, double y, double z) {
+        this.x = x;
+        this.y = y;
+        this.z = z;
+    }
+
+    public float getWidth() {
+        return width;
+    }
+
+    public float getHeight() {
+        return height;
+    }
+
+    public CompoundTag getData() {
+        return data;
+    }
+
+    public boolean isDormant() {
+        return dormant;
+    }
+
+    void setDormant(boolean dormant) {
+        this.dormant = dormant;
+    }
+
+    public boolean isRemoved() {
+        return removed;
+    }
+
+    void setRemoved() {
+        this.removed = true;
+    }
+
+    public AABB getBoundingBox() {
+        double half = width / 2.0;
+        return new AABB(x - half, y, z - half, x + half, y + height, z + half);
+    }
+
+    public double distanceSquared(double x, double y, double z) {
+        double dx = this.x - x;
+        double dy = this.y - y;
+        double dz = this.z - z;
+        return dx * dx + dy * dy + dz * dz;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof Entity other && id.equals(other.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return id.hashCode();
+    }
+}
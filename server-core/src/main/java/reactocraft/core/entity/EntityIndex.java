@@ -0,0 +1,287 @@
+package reactocraft.core.entity;
+
+import reactocraft.core.chunk.ChunkManager;
+import reactocraft.core.chunk.ChunkPos;
+import reactocraft.core.chunk.ChunkSection;
+import reactocraft.core.chunk.FullChunk;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Spatial index over the entities stored in loaded chunk sections. Queries only visit
+ * the 16x16x16 section cells overlapping the search box, so their cost follows the
+ * number of nearby entities rather than the number of loaded chunks.
+ *
+ * <p>Entities are bucketed by their feet position, so box queries are widened by
+ * {@link #MAX_ENTITY_EXTENT} to catch entities whose box pokes into a neighbouring cell.
+ */
+public class EntityIndex {
+
+    public static final double MAX_ENTITY_EXTENT = 2.0;
+    private static final int MAX_DORMANT_CHUNKS = 1024;
+
+    private final ChunkManager manager;
+    private final Map<UUID, Entity> live = new ConcurrentHashMap<>();
+    private final Set<Entity> players = ConcurrentHashMap.newKeySet();
+
+    // Entities of evicted chunks, already persisted; kept so a quick reload revives the same objects.
+    private final Map<ChunkPos, List<Entity>> dormant = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<ChunkPos, List<Entity>> eldest) {
+            return size() > MAX_DORMANT_CHUNKS;
+        }
+    };
+
+    public EntityIndex(ChunkManager manager) {
+        this.manager = manager;
+    }
+
+    private static int sectionIndexFor(double y, int sectionCount) {
+        int index = (int) Math.floor(y) >> 4;
+        return Math.max(0, Math.min(sectionCount - 1, index));
+    }
+
+    public Entity getEntity(UUID id) {
+        return live.get(id);
+    }
+
+    public Collection<Entity> getPlayers() {
+        return Collections.unmodifiableSet(players);
+    }
+
+    public int getLiveCount() {
+        return live.size();
+    }
+
+    /**
+     * Adds an entity to the world. Non-player entities need their chunk to be loaded;
+     * players are tracked even while standing in an unloaded chunk.
+     */
+    public void spawn(Entity entity) {
+        int chunkX = (int) Math.floor(entity.getX()) >> 4;
+        int chunkZ = (int) Math.floor(entity.getZ()) >> 4;
+        FullChunk chunk = manager.getLoadedChunk(chunkX, chunkZ);
+        if (chunk == null && !entity.isPlayer()) {
+            throw new IllegalStateException("Cannot spawn entity into unloaded chunk " + chunkX + "," + chunkZ);
+        }
+
+        entity.setDormant(false);
+        live.put(entity.getId(), entity);
+        if (entity.isPlayer()) {
+            players.add(entity);
+        }
+        if (chunk != null) {
+            attach(entity, chunk);
+        }
+    }
+
+    public void remove(Entity entity) {
+        synchronized (entity) {
+            entity.setRemoved();
+            detach(entity);
+        }
+        live.remove(entity.getId());
+        players.remove(entity);
+    }
+
+    /**
+     * Moves an entity and re-buckets it when it crosses a section boundary. An entity
+     * walking into an unloaded chunk stays in its previous section until it next moves.
+     */
+    public void move(Entity entity, double x, double y, double z) {
+        synchronized (entity) {
+            entity.setPosition(x, y, z);
+            FullChunk current = entity.chunk;
+            if (current == null) {
+                // Players roam outside loaded chunks; pick them up as soon as they step into one.
+                if (entity.isPlayer() && !entity.isRemoved()) {
+                    FullChunk target = manager.getLoadedChunk((int) Math.floor(x) >> 4, (int) Math.floor(z) >> 4);
+                    if (target != null) {
+                        attach(entity, target);
+                    }
+                }
+                return;
+            }
+            if (!entity.isPlayer()) {
+                manager.markEntitiesDirty(current.getChunkX(), current.getChunkZ());
+            }
+
+            int chunkX = (int) Math.floor(x) >> 4;
+            int chunkZ = (int) Math.floor(z) >> 4;
+            FullChunk target = current.getChunkX() == chunkX && current.getChunkZ() == chunkZ
+                    ? current
+                    : manager.getLoadedChunk(chunkX, chunkZ);
+            if (target == null) {
+                return;
+            }
+
+            ChunkSection section = target.getSection(sectionIndexFor(y, target.sections.size()));
+            if (section != entity.section) {
+                attach(entity, target);
+            }
+        }
+    }
+
+    private void attach(Entity entity, FullChunk chunk) {
+        synchronized (entity) {
+            detach(entity);
+            ChunkSection section = chunk.getSection(sectionIndexFor(entity.getY(), chunk.sections.size()));
+            entity.chunk = chunk;
+            entity.section = section;
+            section.addEntity(entity);
+        }
+        if (!entity.isPlayer()) {
+            manager.markEntitiesDirty(chunk.getChunkX(), chunk.getChunkZ());
+        }
+    }
+
+    private void detach(Entity entity) {
+        FullChunk chunk = entity.chunk;
+        if (entity.section != null) {
+            entity.section.removeEntity(entity);
+        }
+        entity.chunk = null;
+        entity.section = null;
+        if (chunk != null && !entity.isPlayer()) {
+            manager.markEntitiesDirty(chunk.getChunkX(), chunk.getChunkZ());
+        }
+    }
+
+    // --- Chunk lifecycle ---
+
+    /**
+     * Brings a freshly loaded chunk's entities to life. Entities still held dormant from a
+     * recent eviction are preferred over {@code fromDisk}: they carry the same state, and
+     * anyone holding a reference keeps seeing the same object.
+     */
+    public void activateChunk(FullChunk chunk, List<Entity> fromDisk) {
+        ChunkPos pos = new ChunkPos(chunk.getChunkX(), chunk.getChunkZ());
+        List<Entity> revived;
+        synchronized (dormant) {
+            revived = dormant.remove(pos);
+        }
+        List<Entity> entities = revived != null ? revived : fromDisk;
+
+        for (Entity entity : entities) {
+            if (entity.isRemoved()) continue;
+            synchronized (entity) {
+                entity.setDormant(false);
+                ChunkSection section = chunk.getSection(sectionIndexFor(entity.getY(), chunk.sections.size()));
+                entity.chunk = chunk;
+                entity.section = section;
+                section.addEntity(entity);
+            }
+            live.put(entity.getId(), entity);
+        }
+
+        // Players standing here while the chunk was unloaded get bucketed now.
+        for (Entity player : players) {
+            if (player.chunk == null
+                    && (int) Math.floor(player.getX()) >> 4 == chunk.getChunkX()
+                    && (int) Math.floor(player.getZ()) >> 4 == chunk.getChunkZ()) {
+                attach(player, chunk);
+            }
+        }
+    }
+
+    /**
+     * Takes an evicted chunk's entities out of the live index. Callers persist them first;
+     * players are only unbucketed and stay tracked.
+     */
+    public void deactivateChunk(FullChunk chunk) {
+        List<Entity> evicted = new ArrayList<>();
+        for (ChunkSection section : chunk.sections) {
+            // Removed one by one rather than cleared, so an entity moving in during the walk is not dropped unseen.
+            for (Entity entity : section.getEntities()) {
+                synchronized (entity) {
+                    if (entity.section != section) continue;
+                    section.removeEntity(entity);
+                    entity.chunk = null;
+                    entity.section = null;
+                    if (!entity.isPlayer()) {
+                        entity.setDormant(true);
+                        evicted.add(entity);
+                    }
+                }
+            }
+        }
+
+        for (Entity entity : evicted) {
+            live.remove(entity.getId());
+        }
+        if (!evicted.isEmpty()) {
+            synchronized (dormant) {
+                dormant.put(new ChunkPos(chunk.getChunkX(), chunk.getChunkZ()), evicted);
+            }
+        }
+    }
+
+    // --- Queries ---
+
+    public List<Entity> getEntitiesInBox(AABB box) {
+        List<Entity> result = new ArrayList<>();
+        AABB search = box.grow(MAX_ENTITY_EXTENT);
+
+        int minChunkX = (int) Math.floor(search.minX()) >> 4;
+        int maxChunkX = (int) Math.floor(search.maxX()) >> 4;
+        int minChunkZ = (int) Math.floor(search.minZ()) >> 4;
+        int maxChunkZ = (int) Math.floor(search.maxZ()) >> 4;
+
+        for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+            for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++) {
+                FullChunk chunk = manager.getLoadedChunk(chunkX, chunkZ);
+                if (chunk == null) continue;
+
+                int sectionCount = chunk.sections.size();
+                int minSection = sectionIndexFor(search.minY(), sectionCount);
+                int maxSection = sectionIndexFor(search.maxY(), sectionCount);
+                for (int sectionY = minSection; sectionY <= maxSection; sectionY++) {
+                    for (Entity entity : chunk.getSection(sectionY).getEntities()) {
+                        if (entity.getBoundingBox().intersects(box)) {
+                            result.add(entity);
+                        }
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    public List<Entity> getEntitiesInRange(double x, double y, double z, double radius) {
+        List<Entity> inBox = getEntitiesInBox(new AABB(x - radius, y - radius, z - radius, x + radius, y + radius, z + radius));
+        double radiusSq = radius * radius;
+        inBox.removeIf(e -> e.distanceSquared(x, y, z) > radiusSq);
+        return inBox;
+    }
+
+    public List<Entity> getCollidingEntities(Entity entity) {
+        List<Entity> colliding = getEntitiesInBox(entity.getBoundingBox());
+        colliding.remove(entity);
+        return colliding;
+    }
+
+    /**
+     * Player counts are small next to entity counts, so a straight scan of the player set
+     * beats any grid walk here.
+     */
+    public Entity getNearestPlayer(double x, double y, double z, double maxDistance) {
+        Entity nearest = null;
+        double bestSq = maxDistance * maxDistance;
+        for (Entity player : players) {
+            double distSq = player.distanceSquared(x, y, z);
+            if (distSq <= bestSq) {
+                bestSq = distSq;
+                nearest = player;
+            }
+        }
+        return nearest;
+    }
+}
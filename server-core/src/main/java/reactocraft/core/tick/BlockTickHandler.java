@@ -0,0 +1,15 @@
+package reactocraft.core.tick;
+
+import java.util.SplittableRandom;
+
+/**
+ * Behaviour run for a block type by the {@link BlockTickScheduler}. Coordinates are world coordinates.
+ */
+public interface BlockTickHandler {
+
+    default void onScheduledTick(TickContext ctx, int x, int y, int z) {
+    }
+
+    default void onRandomTick(TickContext ctx, int x, int y, int z, SplittableRandom random) {
+    }
+}
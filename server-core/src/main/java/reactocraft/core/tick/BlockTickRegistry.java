@@ -0,0 +1,28 @@
+package reactocraft.core.tick;
+
+/**
+ * Global block id to tick handler table. Register handlers at startup, before any chunk
+ * is loaded, since sections count their random-tickable blocks as they are filled.
+ */
+public final class BlockTickRegistry {
+    private static final int BLOCK_ID_COUNT = 256;
+
+    private static final BlockTickHandler[] HANDLERS = new BlockTickHandler[BLOCK_ID_COUNT];
+    private static final boolean[] RANDOM_TICKABLE = new boolean[BLOCK_ID_COUNT];
+
+    private BlockTickRegistry() {
+    }
+
+    public static synchronized void register(int blockId, BlockTickHandler handler, boolean randomTicks) {
+        HANDLERS[blockId & 0xFF] = handler;
+        RANDOM_TICKABLE[blockId & 0xFF] = randomTicks;
+    }
+
+    public static BlockTickHandler getHandler(int blockId) {
+        return HANDLERS[blockId & 0xFF];
+    }
+
+    public static boolean isRandomTickable(int blockId) {
+        return RANDOM_TICKABLE[blockId & 0xFF];
+    }
+}
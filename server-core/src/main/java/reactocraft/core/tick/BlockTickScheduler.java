@@ -0,0 +1,252 @@
+package reactocraft.core.tick;
+
+import reactocraft.core.chunk.ChunkManager;
+import reactocraft.core.chunk.ChunkPos;
+import reactocraft.core.chunk.ChunkSection;
+import reactocraft.core.chunk.FullChunk;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Supplier;
+
+/**
+ * Runs scheduled block updates and random ticks over loaded chunks.
+ *
+ * <p>Loaded chunks are grouped into square regions of {@code 2^REGION_SHIFT} chunks. Each tick
+ * runs four phases, one per checkerboard colour of the region grid, and the regions of a phase
+ * are ticked in parallel, each on the worker pool of the shard that owns it. Regions ticked
+ * together are never adjacent, so a handler may read its neighbours freely; writes it makes
+ * outside its own region are replayed after the phase in region order. Random ticks draw from
+ * a generator seeded by tick and chunk, so a run is reproducible regardless of how regions
+ * land on threads.
+ */
+public class BlockTickScheduler {
+
+    public static final int REGION_SHIFT = 3;
+    public static final int RANDOM_TICK_SPEED = 3;
+    private static final Duration TICK_INTERVAL = Duration.ofMillis(50);
+
+    private static final Comparator<ChunkPos> REGION_ORDER =
+            Comparator.comparingInt(ChunkPos::x).thenComparingInt(ChunkPos::z);
+
+    private final ChunkManager manager;
+    private final long seed;
+    private volatile long currentTick;
+    // Held for writing by a running tick, which spans threads, and for reading by callBetweenTicks.
+    private final StampedLock tickLock = new StampedLock();
+
+    private Disposable tickDisposable;
+
+    public BlockTickScheduler(ChunkManager manager, long seed) {
+        this.manager = manager;
+        this.seed = seed;
+    }
+
+    public long getCurrentTick() {
+        return currentTick;
+    }
+
+    public synchronized void start() {
+        if (tickDisposable != null && !tickDisposable.isDisposed()) return;
+
+        tickDisposable = Flux.interval(TICK_INTERVAL)
+                .onBackpressureDrop()
+                .concatMap(t -> tick())
+                .subscribe(
+                        unused -> { /* tick */ },
+                        err -> System.err.println("BlockTickScheduler error: " + err.getMessage())
+                );
+    }
+
+    public synchronized void stop() {
+        if (tickDisposable != null && !tickDisposable.isDisposed()) {
+            tickDisposable.dispose();
+        }
+    }
+
+    /**
+     * Schedules a tick from outside the tick loop, e.g. after a player edit. World coordinates.
+     */
+    public void scheduleTick(int x, int y, int z, int blockId, int delay, int priority) {
+        scheduleNow(manager, x, y, z, blockId, currentTick + Math.max(1, delay), priority);
+    }
+
+    /**
+     * Runs {@code action} while no tick is in progress, e.g. to take a chunk out of the loaded
+     * set and snapshot its tick list knowing no region tick still holds it.
+     */
+    public <T> T callBetweenTicks(Supplier<T> action) {
+        long stamp = tickLock.readLock();
+        try {
+            return action.get();
+        } finally {
+            tickLock.unlockRead(stamp);
+        }
+    }
+
+    static void scheduleNow(ChunkManager manager, int x, int y, int z, int blockId, long dueTick, int priority) {
+        FullChunk chunk = manager.getLoadedChunk(x >> 4, z >> 4);
+        if (chunk != null) {
+            chunk.getTickList().schedule(x & 0xF, y, z & 0xF, blockId, dueTick, priority);
+        }
+    }
+
+    static void setBlockNow(ChunkManager manager, int x, int y, int z, int blockId) {
+        FullChunk chunk = manager.getLoadedChunk(x >> 4, z >> 4);
+        if (chunk != null) {
+            chunk.setBlock(x & 0xF, y, z & 0xF, blockId);
+        }
+    }
+
+    /**
+     * Runs one game tick over every loaded chunk.
+     */
+    public Mono<Void> tick() {
+        return Mono.defer(() -> {
+            long stamp = tickLock.writeLock();
+            try {
+                return tickLoadedChunks().doFinally(signal -> tickLock.unlockWrite(stamp));
+            } catch (RuntimeException e) {
+                tickLock.unlockWrite(stamp);
+                throw e;
+            }
+        });
+    }
+
+    private Mono<Void> tickLoadedChunks() {
+        long tick = ++currentTick;
+
+        Map<ChunkPos, List<FullChunk>> regions = new TreeMap<>(REGION_ORDER);
+        for (FullChunk chunk : manager.getLoadedChunks()) {
+            ChunkPos region = new ChunkPos(chunk.getChunkX() >> REGION_SHIFT, chunk.getChunkZ() >> REGION_SHIFT);
+            regions.computeIfAbsent(region, r -> new ArrayList<>()).add(chunk);
+        }
+
+        List<List<RegionTickContext>> phases = new ArrayList<>(4);
+        for (int i = 0; i < 4; i++) {
+            phases.add(new ArrayList<>());
+        }
+        for (Map.Entry<ChunkPos, List<FullChunk>> entry : regions.entrySet()) {
+            ChunkPos region = entry.getKey();
+            List<FullChunk> chunks = entry.getValue();
+            chunks.sort(Comparator.comparingInt(FullChunk::getChunkX).thenComparingInt(FullChunk::getChunkZ));
+
+            int colour = ((region.x() & 1) << 1) | (region.z() & 1);
+            phases.get(colour).add(new RegionTickContext(manager, tick, region.x(), region.z(), chunks));
+        }
+
+        Mono<Void> run = Mono.empty();
+        for (List<RegionTickContext> phase : phases) {
+            run = run.then(Mono.defer(() -> runPhase(phase)));
+        }
+        return run;
+    }
+
+    private Mono<Void> runPhase(List<RegionTickContext> phase) {
+        if (phase.isEmpty()) {
+            return Mono.empty();
+        }
+        return Flux.fromIterable(phase)
+                .flatMap(ctx -> Mono.fromRunnable(() -> tickRegion(ctx)).subscribeOn(workerFor(ctx)))
+                .then(Mono.fromRunnable(() -> {
+                    // Contexts are already in region order, which fixes the order of border writes.
+                    for (RegionTickContext ctx : phase) {
+                        ctx.applyDeferred();
+                    }
+                }));
+    }
+
+    /**
+     * A tick region always lies inside one shard, since shard groups are at least a region file wide.
+     */
+    private Scheduler workerFor(RegionTickContext ctx) {
+        return manager.getWorkerScheduler(ctx.regionX << REGION_SHIFT, ctx.regionZ << REGION_SHIFT);
+    }
+
+    private void tickRegion(RegionTickContext ctx) {
+        long tick = ctx.getCurrentTick();
+
+        List<ScheduledTick> due = new ArrayList<>();
+        for (FullChunk chunk : ctx.chunks) {
+            int firstOfChunk = due.size();
+            chunk.getTickList().drainDue(tick, due);
+            int baseX = chunk.getChunkX() << 4;
+            int baseZ = chunk.getChunkZ() << 4;
+            for (int i = firstOfChunk; i < due.size(); i++) {
+                ScheduledTick t = due.get(i);
+                due.set(i, new ScheduledTick(baseX + t.x(), t.y(), baseZ + t.z(), t.blockId(), t.dueTick(), t.priority(), t.seq()));
+            }
+        }
+        // Stable sort: chunk order breaks ties between chunks, seq within one.
+        due.sort(Comparator.comparingLong(ScheduledTick::dueTick).thenComparingInt(ScheduledTick::priority));
+
+        for (ScheduledTick t : due) {
+            if (ctx.getBlock(t.x(), t.y(), t.z()) != t.blockId()) continue;
+            BlockTickHandler handler = BlockTickRegistry.getHandler(t.blockId());
+            if (handler != null) {
+                runHandler(() -> handler.onScheduledTick(ctx, t.x(), t.y(), t.z()), t.x(), t.y(), t.z());
+            }
+        }
+
+        for (FullChunk chunk : ctx.chunks) {
+            randomTickChunk(ctx, chunk, tick);
+        }
+    }
+
+    private void randomTickChunk(RegionTickContext ctx, FullChunk chunk, long tick) {
+        SplittableRandom random = null;
+        int baseX = chunk.getChunkX() << 4;
+        int baseZ = chunk.getChunkZ() << 4;
+
+        for (ChunkSection section : chunk.sections) {
+            if (section.getRandomTickableCount() <= 0) continue;
+            if (random == null) {
+                random = new SplittableRandom(mixSeed(tick, chunk.getChunkX(), chunk.getChunkZ()));
+            }
+
+            int baseY = section.getYIndex() * ChunkSection.SECTION_SIZE;
+            for (int i = 0; i < RANDOM_TICK_SPEED; i++) {
+                int packed = random.nextInt(ChunkSection.BLOCK_COUNT);
+                int localX = packed & 0xF;
+                int localZ = (packed >> 4) & 0xF;
+                int localY = (packed >> 8) & 0xF;
+
+                int blockId = section.getBlock(localX, localY, localZ);
+                if (!BlockTickRegistry.isRandomTickable(blockId)) continue;
+                BlockTickHandler handler = BlockTickRegistry.getHandler(blockId);
+                if (handler == null) continue;
+
+                int x = baseX + localX;
+                int y = baseY + localY;
+                int z = baseZ + localZ;
+                SplittableRandom r = random;
+                runHandler(() -> handler.onRandomTick(ctx, x, y, z, r), x, y, z);
+            }
+        }
+    }
+
+    private static void runHandler(Runnable handler, int x, int y, int z) {
+        try {
+            handler.run();
+        } catch (RuntimeException e) {
+            System.err.println("Block tick failed at " + x + "," + y + "," + z + ": " + e.getMessage());
+        }
+    }
+
+    private long mixSeed(long tick, int chunkX, int chunkZ) {
+        long h = seed ^ (tick * 0x9E3779B97F4A7C15L);
+        h ^= ((long) chunkX << 32) ^ (chunkZ & 0xFFFFFFFFL);
+        h *= 0xBF58476D1CE4E5B9L;
+        return h ^ (h >>> 31);
+    }
+}
@@ -0,0 +1,64 @@
+package reactocraft.core.tick;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * Pending scheduled ticks of one chunk, ordered by deadline, then priority, then insertion.
+ * A block can only have one pending tick per block id at a time.
+ */
+public class ChunkTickList {
+
+    public static final Comparator<ScheduledTick> ORDER = Comparator
+            .comparingLong(ScheduledTick::dueTick)
+            .thenComparingInt(ScheduledTick::priority)
+            .thenComparingLong(ScheduledTick::seq);
+
+    private final PriorityQueue<ScheduledTick> queue = new PriorityQueue<>(ORDER);
+    private final Set<Long> pending = new HashSet<>();
+    private long nextSeq;
+    private long version;
+
+    private static long key(int x, int y, int z, int blockId) {
+        return ((((long) y << 8) | (z << 4) | x) << 8) | (blockId & 0xFF);
+    }
+
+    public synchronized boolean schedule(int x, int y, int z, int blockId, long dueTick, int priority) {
+        if (!pending.add(key(x, y, z, blockId))) {
+            return false;
+        }
+        queue.add(new ScheduledTick(x, y, z, blockId, dueTick, priority, nextSeq++));
+        version++;
+        return true;
+    }
+
+    public synchronized void drainDue(long currentTick, List<ScheduledTick> out) {
+        while (!queue.isEmpty() && queue.peek().dueTick() <= currentTick) {
+            ScheduledTick tick = queue.poll();
+            pending.remove(key(tick.x(), tick.y(), tick.z(), tick.blockId()));
+            out.add(tick);
+            version++;
+        }
+    }
+
+    public synchronized List<ScheduledTick> snapshot() {
+        List<ScheduledTick> ticks = new ArrayList<>(queue);
+        ticks.sort(ORDER);
+        return ticks;
+    }
+
+    /**
+     * Changes whenever a tick is added or drained, so savers can skip lists that have not changed.
+     */
+    public synchronized long getVersion() {
+        return version;
+    }
+
+    public synchronized int size() {
+        return queue.size();
+    }
+}
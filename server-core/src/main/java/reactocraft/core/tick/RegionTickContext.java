@@ -0,0 +1,72 @@
+package reactocraft.core.tick;
+
+import reactocraft.core.chunk.ChunkManager;
+import reactocraft.core.chunk.FullChunk;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tick context for one region during one phase. Writes inside the region apply immediately;
+ * writes that land in another region are queued and replayed by the scheduler after the phase.
+ */
+class RegionTickContext implements TickContext {
+
+    final int regionX;
+    final int regionZ;
+    final List<FullChunk> chunks;
+
+    private final ChunkManager manager;
+    private final long currentTick;
+    private final List<Runnable> deferred = new ArrayList<>();
+
+    RegionTickContext(ChunkManager manager, long currentTick, int regionX, int regionZ, List<FullChunk> chunks) {
+        this.manager = manager;
+        this.currentTick = currentTick;
+        this.regionX = regionX;
+        this.regionZ = regionZ;
+        this.chunks = chunks;
+    }
+
+    private boolean isInRegion(int x, int z) {
+        return (x >> 4) >> BlockTickScheduler.REGION_SHIFT == regionX
+                && (z >> 4) >> BlockTickScheduler.REGION_SHIFT == regionZ;
+    }
+
+    @Override
+    public long getCurrentTick() {
+        return currentTick;
+    }
+
+    @Override
+    public int getBlock(int x, int y, int z) {
+        FullChunk chunk = manager.getLoadedChunk(x >> 4, z >> 4);
+        return chunk != null ? chunk.getBlock(x & 0xF, y, z & 0xF) : 0;
+    }
+
+    @Override
+    public void setBlock(int x, int y, int z, int blockId) {
+        if (isInRegion(x, z)) {
+            BlockTickScheduler.setBlockNow(manager, x, y, z, blockId);
+        } else {
+            deferred.add(() -> BlockTickScheduler.setBlockNow(manager, x, y, z, blockId));
+        }
+    }
+
+    @Override
+    public void scheduleTick(int x, int y, int z, int blockId, int delay, int priority) {
+        long dueTick = currentTick + Math.max(1, delay);
+        if (isInRegion(x, z)) {
+            BlockTickScheduler.scheduleNow(manager, x, y, z, blockId, dueTick, priority);
+        } else {
+            deferred.add(() -> BlockTickScheduler.scheduleNow(manager, x, y, z, blockId, dueTick, priority));
+        }
+    }
+
+    void applyDeferred() {
+        for (Runnable op : deferred) {
+            op.run();
+        }
+        deferred.clear();
+    }
+}
@@ -0,0 +1,7 @@
+package reactocraft.core.tick;
+
+/**
+ * A pending block update. {@code x}/{@code z} are chunk-local and {@code y} is absolute,
+ * like {@code FullChunk#setBlock}; {@code seq} keeps insertion order among equal deadlines.
+ */
+public record ScheduledTick(int x, int y, int z, int blockId, long dueTick, int priority, long seq) {}
@@ -0,0 +1,16 @@
+package reactocraft.core.tick;
+
+/**
+ * World access handed to tick handlers. Reads and writes use world coordinates; anything
+ * outside the region being ticked is applied after the current phase, in a fixed order.
+ */
+public interface TickContext {
+
+    long getCurrentTick();
+
+    int getBlock(int x, int y, int z);
+
+    void setBlock(int x, int y, int z, int blockId);
+
+    void scheduleTick(int x, int y, int z, int blockId, int delay, int priority);
+}
@@ -0,0 +1,16 @@
+package reactocraft.core.view;
+
+import reactocraft.core.chunk.ChunkPos;
+import reactocraft.core.chunk.FullChunk;
+
+import java.util.UUID;
+
+/**
+ * Connection side of the view engine: pushes chunk data to, and retracts it from, one player.
+ */
+public interface ChunkSender {
+
+    void sendChunk(UUID playerId, FullChunk chunk);
+
+    void unloadChunk(UUID playerId, ChunkPos pos);
+}
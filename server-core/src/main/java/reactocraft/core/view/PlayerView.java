@@ -0,0 +1,37 @@
+package reactocraft.core.view;
+
+import reactocraft.core.chunk.ChunkPos;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * View state of one player. Guarded by its own monitor.
+ */
+class PlayerView {
+    final UUID playerId;
+
+    boolean placed;
+    int centerX, centerZ;
+    int radius;
+
+    // Chunks already on the client, and chunks in view still waiting to go out, spiral-ordered.
+    final Set<ChunkPos> sent = new HashSet<>();
+    final List<ChunkPos> pendingSends = new ArrayList<>();
+
+    double bytesPerTick;
+    double sendTokens;
+
+    PlayerView(UUID playerId, int radius, double bytesPerTick) {
+        this.playerId = playerId;
+        this.radius = radius;
+        this.bytesPerTick = bytesPerTick;
+    }
+
+    boolean inView(ChunkPos pos) {
+        return placed && Math.abs(pos.x() - centerX) <= radius && Math.abs(pos.z() - centerZ) <= radius;
+    }
+}
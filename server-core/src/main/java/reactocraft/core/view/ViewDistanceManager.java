@@ -0,0 +1,334 @@
+package reactocraft.core.view;
+
+import reactocraft.core.chunk.ChunkManager;
+import reactocraft.core.chunk.ChunkPos;
+import reactocraft.core.chunk.FullChunk;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Tracks which chunks each player should see and streams them out gradually.
+ *
+ * <p>When a player crosses a chunk border only the strips entering and leaving the view
+ * square are visited. Entering chunks get a load ticket, which keeps {@link ChunkManager}
+ * from evicting them, and are loaded in spiral order under a global per-tick budget.
+ * Sends follow the same order and are rate limited per player by a token bucket sized
+ * from that player's connection throughput.
+ */
+public class ViewDistanceManager {
+
+    public static final int DEFAULT_VIEW_DISTANCE = 8;
+    public static final long DEFAULT_BYTES_PER_SECOND = 2L * 1024 * 1024;
+
+    private static final Duration TICK_INTERVAL = Duration.ofMillis(50);
+    private static final int TICKS_PER_SECOND = 20;
+    private static final int MAX_LOADS_PER_TICK = 64;
+    private static final int MAX_SENDS_PER_TICK = 16;
+    // Pending sends looked at per player per tick, so a long queue of unloaded chunks costs a bounded scan.
+    private static final int MAX_SEND_SCAN = 64;
+    private static final int BURST_TICKS = 4;
+    // Raw block bytes of a chunk; good enough for budgeting until the protocol encodes chunks.
+    private static final int ESTIMATED_CHUNK_BYTES = FullChunk.CHUNK_SIZE * FullChunk.CHUNK_SIZE * FullChunk.HEIGHT;
+
+    private final ChunkManager chunkManager;
+    private final ChunkSender sender;
+
+    private final Map<UUID, PlayerView> views = new ConcurrentHashMap<>();
+    private final Map<ChunkPos, Integer> interest = new ConcurrentHashMap<>();
+    private final Queue<ChunkPos> loadQueue = new ConcurrentLinkedQueue<>();
+    private final Set<ChunkPos> loadQueued = ConcurrentHashMap.newKeySet();
+    private final Set<ChunkPos> loading = ConcurrentHashMap.newKeySet();
+
+    private Disposable tickDisposable;
+
+    public ViewDistanceManager(ChunkManager chunkManager, ChunkSender sender) {
+        this.chunkManager = chunkManager;
+        this.sender = sender;
+    }
+
+    public synchronized void start() {
+        if (tickDisposable != null && !tickDisposable.isDisposed()) return;
+
+        tickDisposable = Flux.interval(TICK_INTERVAL)
+                .onBackpressureDrop()
+                .subscribe(
+                        t -> tick(),
+                        err -> System.err.println("ViewDistanceManager error: " + err.getMessage())
+                );
+    }
+
+    public synchronized void stop() {
+        if (tickDisposable != null && !tickDisposable.isDisposed()) {
+            tickDisposable.dispose();
+        }
+    }
+
+    // --- Players ---
+
+    public void addPlayer(UUID playerId, int viewDistance, long bytesPerSecond) {
+        views.putIfAbsent(playerId, new PlayerView(playerId, viewDistance, bytesPerSecond / (double) TICKS_PER_SECOND));
+    }
+
+    public void addPlayer(UUID playerId) {
+        addPlayer(playerId, DEFAULT_VIEW_DISTANCE, DEFAULT_BYTES_PER_SECOND);
+    }
+
+    /**
+     * Drops a disconnected player's interest. No unload packets are sent since the connection is gone.
+     */
+    public void removePlayer(UUID playerId) {
+        PlayerView view = views.remove(playerId);
+        if (view == null) return;
+        synchronized (view) {
+            if (view.placed) {
+                forEachInSquare(view.centerX, view.centerZ, view.radius, this::releaseInterest);
+            }
+            view.placed = false;
+            view.sent.clear();
+            view.pendingSends.clear();
+        }
+    }
+
+    public void updatePosition(UUID playerId, double x, double z) {
+        PlayerView view = views.get(playerId);
+        if (view == null) return;
+        int chunkX = (int) Math.floor(x) >> 4;
+        int chunkZ = (int) Math.floor(z) >> 4;
+        synchronized (view) {
+            if (view.placed && view.centerX == chunkX && view.centerZ == chunkZ) return;
+            moveView(view, chunkX, chunkZ, view.radius);
+        }
+    }
+
+    public void setViewDistance(UUID playerId, int viewDistance) {
+        PlayerView view = views.get(playerId);
+        if (view == null) return;
+        synchronized (view) {
+            if (view.placed) {
+                moveView(view, view.centerX, view.centerZ, viewDistance);
+            } else {
+                view.radius = viewDistance;
+            }
+        }
+    }
+
+    /**
+     * Updates the send budget from the measured throughput of the player's connection.
+     */
+    public void setThroughput(UUID playerId, long bytesPerSecond) {
+        PlayerView view = views.get(playerId);
+        if (view == null) return;
+        synchronized (view) {
+            view.bytesPerTick = bytesPerSecond / (double) TICKS_PER_SECOND;
+        }
+    }
+
+    public int getPendingSends(UUID playerId) {
+        PlayerView view = views.get(playerId);
+        if (view == null) return 0;
+        synchronized (view) {
+            return view.pendingSends.size();
+        }
+    }
+
+    public boolean isInterested(int chunkX, int chunkZ) {
+        return interest.containsKey(new ChunkPos(chunkX, chunkZ));
+    }
+
+    private void moveView(PlayerView view, int centerX, int centerZ, int radius) {
+        List<ChunkPos> entering = new ArrayList<>();
+        List<ChunkPos> leaving = new ArrayList<>();
+        if (view.placed) {
+            difference(centerX, centerZ, radius, view.centerX, view.centerZ, view.radius, entering);
+            difference(view.centerX, view.centerZ, view.radius, centerX, centerZ, radius, leaving);
+        } else {
+            forEachInSquare(centerX, centerZ, radius, entering::add);
+        }
+
+        // Outermost first, the reverse of the order they were streamed in around the old centre.
+        int oldCenterX = view.centerX;
+        int oldCenterZ = view.centerZ;
+        leaving.sort(Comparator.comparingInt((ChunkPos pos) -> spiralIndex(pos.x() - oldCenterX, pos.z() - oldCenterZ))
+                .reversed());
+
+        view.placed = true;
+        view.centerX = centerX;
+        view.centerZ = centerZ;
+        view.radius = radius;
+
+        for (ChunkPos pos : leaving) {
+            releaseInterest(pos);
+            if (view.sent.remove(pos)) {
+                sender.unloadChunk(view.playerId, pos);
+            }
+        }
+        view.pendingSends.removeIf(pos -> !view.inView(pos));
+
+        Comparator<ChunkPos> spiral = Comparator.comparingInt(pos -> spiralIndex(pos.x() - centerX, pos.z() - centerZ));
+        entering.sort(spiral);
+        for (ChunkPos pos : entering) {
+            acquireInterest(pos);
+        }
+        view.pendingSends.addAll(entering);
+        view.pendingSends.sort(spiral);
+    }
+
+    // --- Interest and tickets ---
+
+    private void acquireInterest(ChunkPos pos) {
+        interest.compute(pos, (p, count) -> {
+            if (count == null) {
+                chunkManager.addTicket(p.x(), p.z());
+                queueLoad(p);
+                return 1;
+            }
+            return count + 1;
+        });
+    }
+
+    private void releaseInterest(ChunkPos pos) {
+        interest.computeIfPresent(pos, (p, count) -> {
+            if (count == 1) {
+                chunkManager.removeTicket(p.x(), p.z());
+                return null;
+            }
+            return count - 1;
+        });
+    }
+
+    private void queueLoad(ChunkPos pos) {
+        if (!loading.contains(pos) && loadQueued.add(pos)) {
+            loadQueue.add(pos);
+        }
+    }
+
+    // --- Tick ---
+
+    public void tick() {
+        issueLoads();
+        for (PlayerView view : views.values()) {
+            synchronized (view) {
+                issueSends(view);
+            }
+        }
+    }
+
+    private void issueLoads() {
+        int budget = MAX_LOADS_PER_TICK;
+        ChunkPos pos;
+        while (budget > 0 && (pos = loadQueue.poll()) != null) {
+            loadQueued.remove(pos);
+            if (!interest.containsKey(pos) || chunkManager.getLoadedChunk(pos.x(), pos.z()) != null
+                    || !loading.add(pos)) {
+                continue;
+            }
+            budget--;
+            ChunkPos loadPos = pos;
+            chunkManager.getChunk(pos.x(), pos.z()).subscribe(
+                    chunk -> loading.remove(loadPos),
+                    err -> {
+                        System.err.println("View load failed for " + loadPos.x() + "," + loadPos.z() + ": " + err.getMessage());
+                        loading.remove(loadPos);
+                        // Retried on a later tick while someone still wants it.
+                        if (interest.containsKey(loadPos)) {
+                            queueLoad(loadPos);
+                        }
+                    }
+            );
+        }
+    }
+
+    private void issueSends(PlayerView view) {
+        double burst = Math.max(view.bytesPerTick * BURST_TICKS, ESTIMATED_CHUNK_BYTES);
+        view.sendTokens = Math.min(view.sendTokens + view.bytesPerTick, burst);
+
+        int sends = 0;
+        int scanned = 0;
+        Iterator<ChunkPos> it = view.pendingSends.iterator();
+        while (it.hasNext() && scanned < MAX_SEND_SCAN && sends < MAX_SENDS_PER_TICK
+                && view.sendTokens >= ESTIMATED_CHUNK_BYTES) {
+            ChunkPos pos = it.next();
+            scanned++;
+            // Not loaded yet: it keeps its place in line while chunks further out that are ready go first.
+            // Re-queued in case it was unloaded after its load was skipped as already done.
+            FullChunk chunk = chunkManager.getLoadedChunk(pos.x(), pos.z());
+            if (chunk == null) {
+                queueLoad(pos);
+                continue;
+            }
+
+            it.remove();
+            view.sent.add(pos);
+            view.sendTokens -= ESTIMATED_CHUNK_BYTES;
+            sends++;
+            sender.sendChunk(view.playerId, chunk);
+        }
+    }
+
+    // --- Square geometry ---
+
+    private interface PosConsumer {
+        void accept(ChunkPos pos);
+    }
+
+    private static void forEachInSquare(int centerX, int centerZ, int radius, PosConsumer consumer) {
+        for (int x = centerX - radius; x <= centerX + radius; x++) {
+            for (int z = centerZ - radius; z <= centerZ + radius; z++) {
+                consumer.accept(new ChunkPos(x, z));
+            }
+        }
+    }
+
+    /**
+     * Adds the chunks of square A that are not in square B. Visits each column of A once
+     * and only the cells of the difference, so a one-chunk step costs one strip, not a square.
+     */
+    static void difference(int ax, int az, int ar, int bx, int bz, int br, List<ChunkPos> out) {
+        int bMinX = bx - br, bMaxX = bx + br;
+        int bMinZ = bz - br, bMaxZ = bz + br;
+        int aMinZ = az - ar, aMaxZ = az + ar;
+
+        for (int x = ax - ar; x <= ax + ar; x++) {
+            if (x < bMinX || x > bMaxX) {
+                for (int z = aMinZ; z <= aMaxZ; z++) {
+                    out.add(new ChunkPos(x, z));
+                }
+            } else {
+                for (int z = aMinZ; z <= Math.min(aMaxZ, bMinZ - 1); z++) {
+                    out.add(new ChunkPos(x, z));
+                }
+                for (int z = Math.max(aMinZ, bMaxZ + 1); z <= aMaxZ; z++) {
+                    out.add(new ChunkPos(x, z));
+                }
+            }
+        }
+    }
+
+    /**
+     * Position of an offset along a square spiral around the centre: ring by ring outwards,
+     * each ring walked counter-clockwise starting just above its bottom-right corner.
+     */
+    static int spiralIndex(int dx, int dz) {
+        int ring = Math.max(Math.abs(dx), Math.abs(dz));
+        if (ring == 0) return 0;
+
+        int base = (2 * ring - 1) * (2 * ring - 1);
+        int side = 2 * ring;
+        if (dx == ring && dz > -ring) return base + (dz + ring - 1);
+        if (dz == ring) return base + side + (ring - 1 - dx);
+        if (dx == -ring) return base + 2 * side + (ring - 1 - dz);
+        return base + 3 * side + (dx + ring - 1);
+    }
+}
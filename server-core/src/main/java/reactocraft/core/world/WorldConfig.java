@@ -0,0 +1,154 @@
+package reactocraft.core.world;
+
+import reactocraft.core.chunk.RegionFile;
+import reactocraft.core.worldgen.ChunkGenerator;
+import reactocraft.core.worldgen.WorldType;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Per-world settings: where chunks are stored, how many stay loaded, how often they are
+ * collected and saved, and how the world is split into shards and thread pools.
+ *
+ * <p>A sharded world is cut into square groups of {@code 2^shardShift} chunks, each group
+ * owned by one shard with its own chunk map, region files and executors. The shift is at
+ * least {@link RegionFile#REGION_SHIFT} so a region file never spans two shards.
+ * Thread counts, the loaded chunk limit and the open region limit are per world and divided
+ * between its shards. Each shard keeps at least {@link #MIN_LOADED_CHUNKS_PER_SHARD} chunks
+ * and {@link #MIN_OPEN_REGIONS_PER_SHARD} regions, so heavily sharded worlds may exceed the
+ * configured totals rather than evict on nearly every load.
+ *
+ * <p>Without an explicit {@code generator} the world gets its own, seeded with {@code seed}.
+ */
+public record WorldConfig(
+        String name,
+        Path storageRoot,
+        long seed,
+        WorldType worldType,
+        ChunkGenerator generator,
+        int maxLoadedChunks,
+        Duration unloadAfter,
+        Duration gcInterval,
+        Duration saveDirtyInterval,
+        int maxOpenRegions,
+        int shardCount,
+        int shardShift,
+        int ioThreads,
+        int workerThreads
+) {
+
+    public static final int MIN_LOADED_CHUNKS_PER_SHARD = 64;
+    public static final int MIN_OPEN_REGIONS_PER_SHARD = 2;
+
+    public WorldConfig {
+        if (shardCount < 1) {
+            throw new IllegalArgumentException("shardCount must be >= 1");
+        }
+        if (shardShift < RegionFile.REGION_SHIFT) {
+            throw new IllegalArgumentException("shardShift must be >= " + RegionFile.REGION_SHIFT
+                    + " so region files are not shared between shards");
+        }
+    }
+
+    public static Builder builder(String name) {
+        return new Builder(name);
+    }
+
+    public static class Builder {
+        private final String name;
+        private Path storageRoot;
+        private long seed = 0L;
+        private WorldType worldType = WorldType.FLAT;
+        private ChunkGenerator generator;
+        private int maxLoadedChunks = 256;
+        private Duration unloadAfter = Duration.ofSeconds(60);
+        private Duration gcInterval = Duration.ofSeconds(10);
+        private Duration saveDirtyInterval = Duration.ofSeconds(30);
+        private int maxOpenRegions = 16;
+        private int shardCount = 1;
+        private int shardShift = RegionFile.REGION_SHIFT;
+        private int ioThreads = 10 * Runtime.getRuntime().availableProcessors();
+        private int workerThreads = Runtime.getRuntime().availableProcessors();
+
+        private Builder(String name) {
+            this.name = name;
+            this.storageRoot = Path.of("worlds", name);
+        }
+
+        public Builder storageRoot(Path storageRoot) {
+            this.storageRoot = storageRoot;
+            return this;
+        }
+
+        public Builder seed(long seed) {
+            this.seed = seed;
+            return this;
+        }
+
+        public Builder worldType(WorldType worldType) {
+            this.worldType = worldType;
+            return this;
+        }
+
+        /**
+         * Generator for this world only. By default each world creates its own with
+         * {@code Worldgen.createGenerator(seed)}, so worlds with different seeds get different terrain.
+         */
+        public Builder generator(ChunkGenerator generator) {
+            this.generator = generator;
+            return this;
+        }
+
+        public Builder maxLoadedChunks(int maxLoadedChunks) {
+            this.maxLoadedChunks = maxLoadedChunks;
+            return this;
+        }
+
+        public Builder unloadAfter(Duration unloadAfter) {
+            this.unloadAfter = unloadAfter;
+            return this;
+        }
+
+        public Builder gcInterval(Duration gcInterval) {
+            this.gcInterval = gcInterval;
+            return this;
+        }
+
+        public Builder saveDirtyInterval(Duration saveDirtyInterval) {
+            this.saveDirtyInterval = saveDirtyInterval;
+            return this;
+        }
+
+        public Builder maxOpenRegions(int maxOpenRegions) {
+            this.maxOpenRegions = maxOpenRegions;
+            return this;
+        }
+
+        public Builder shards(int shardCount, int shardShift) {
+            this.shardCount = shardCount;
+            this.shardShift = shardShift;
+            return this;
+        }
+
+        public Builder shards(int shardCount) {
+            this.shardCount = shardCount;
+            return this;
+        }
+
+        public Builder ioThreads(int ioThreads) {
+            this.ioThreads = ioThreads;
+            return this;
+        }
+
+        public Builder workerThreads(int workerThreads) {
+            this.workerThreads = workerThreads;
+            return this;
+        }
+
+        public WorldConfig build() {
+            return new WorldConfig(name, storageRoot, seed, worldType, generator, maxLoadedChunks,
+                    unloadAfter, gcInterval, saveDirtyInterval, maxOpenRegions, shardCount, shardShift, ioThreads, workerThreads);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package reactocraft.core.world;
+
+import reactocraft.core.chunk.ChunkManager;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of the independent worlds (dimensions) a server runs. Each world is its own
+ * {@link ChunkManager} with separate storage, limits and executors.
+ */
+public class WorldManager {
+
+    private final Map<String, ChunkManager> worlds = new ConcurrentHashMap<>();
+
+    public ChunkManager createWorld(WorldConfig config) {
+        ChunkManager world = new ChunkManager(config);
+        if (worlds.putIfAbsent(config.name(), world) != null) {
+            world.close();
+            throw new IllegalStateException("World already exists: " + config.name());
+        }
+        world.startAutoGc();
+        return world;
+    }
+
+    public ChunkManager getWorld(String name) {
+        return worlds.get(name);
+    }
+
+    public Collection<ChunkManager> getWorlds() {
+        return Collections.unmodifiableCollection(worlds.values());
+    }
+
+    /**
+     * Saves and unloads every chunk of the world, then shuts down its executors.
+     */
+    public Mono<Void> unloadWorld(String name) {
+        ChunkManager world = worlds.remove(name);
+        if (world == null) {
+            return Mono.empty();
+        }
+        return world.unloadAllChunks()
+                .doFinally(signal -> world.close());
+    }
+
+    public Mono<Void> unloadAll() {
+        List<Mono<Void>> tasks = new ArrayList<>();
+        for (String name : new ArrayList<>(worlds.keySet())) {
+            tasks.add(unloadWorld(name));
+        }
+        return Mono.when(tasks).then();
+    }
+}
@@ -0,0 +1,14 @@
+package reactocraft.core.worldgen;
+
+import reactocraft.core.chunk.FullChunk;
+
+/**
+ * Fills a freshly created chunk with terrain. Implementations must be safe to call
+ * from several threads at once, one chunk per call.
+ */
+public interface ChunkGenerator {
+
+    void generate(FullChunk chunk, WorldType type);
+
+    String getName();
+}
@@ -0,0 +1,99 @@
+package reactocraft.core.worldgen;
+
+import reactocraft.core.chunk.ChunkSection;
+import reactocraft.core.chunk.FullChunk;
+
+import java.util.Arrays;
+
+/**
+ * Pure-Java flat and Perlin terrain, writing block bytes straight into section storage.
+ * Noise runs through the Vector API when {@code jdk.incubator.vector} is available and
+ * falls back to scalar code otherwise; both produce the same terrain.
+ */
+public class JavaChunkGenerator implements ChunkGenerator {
+
+    private static final int BEDROCK = 3;
+    private static final int DIRT = 2;
+    private static final int GRASS = 1;
+
+    private static final double NOISE_SCALE = 0.05;
+    private static final int SEA_LEVEL = 32;
+    private static final int AMPLITUDE = 24;
+
+    private static final byte[][] FLAT_SECTIONS = buildFlatSections();
+
+    private final PerlinNoise noise;
+
+    public JavaChunkGenerator(long seed) {
+        this.noise = isVectorApiAvailable() ? new VectorPerlinNoise(seed) : new PerlinNoise(seed);
+    }
+
+    public static boolean isVectorApiAvailable() {
+        return ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+    }
+
+    // Same layout as the native flat generator.
+    private static int flatBlock(int y) {
+        if (y == 0) return BEDROCK;
+        if (y <= 3) return DIRT;
+        if (y == 4) return GRASS;
+        return 0;
+    }
+
+    static int terrainBlock(int y, int surface) {
+        if (y == 0) return BEDROCK;
+        if (y < surface) return DIRT;
+        return GRASS;
+    }
+
+    private static byte[][] buildFlatSections() {
+        int sectionCount = FullChunk.HEIGHT / ChunkSection.SECTION_SIZE;
+        int layer = ChunkSection.SECTION_SIZE * ChunkSection.SECTION_SIZE;
+        byte[][] sections = new byte[sectionCount][];
+        for (int s = 0; s < sectionCount; s++) {
+            byte[] data = new byte[ChunkSection.BLOCK_COUNT];
+            for (int y = 0; y < ChunkSection.SECTION_SIZE; y++) {
+                Arrays.fill(data, y * layer, (y + 1) * layer, (byte) flatBlock(s * ChunkSection.SECTION_SIZE + y));
+            }
+            sections[s] = data;
+        }
+        return sections;
+    }
+
+    @Override
+    public void generate(FullChunk chunk, WorldType type) {
+        if (type == WorldType.FLAT) {
+            for (int s = 0; s < FLAT_SECTIONS.length; s++) {
+                chunk.getSection(s).setRawData(FLAT_SECTIONS[s]);
+            }
+            return;
+        }
+
+        float[] heights = new float[256];
+        noise.sampleChunk(chunk.getChunkX() << 4, chunk.getChunkZ() << 4, NOISE_SCALE, heights);
+
+        int layer = ChunkSection.SECTION_SIZE * ChunkSection.SECTION_SIZE;
+        for (ChunkSection section : chunk.sections) {
+            byte[] blocks = section.getRawData();
+            int baseY = section.getYIndex() * ChunkSection.SECTION_SIZE;
+            for (int column = 0; column < layer; column++) {
+                int surface = Math.max(1, Math.min(FullChunk.HEIGHT - 1, SEA_LEVEL + (int) (heights[column] * AMPLITUDE)));
+                int top = Math.min(ChunkSection.SECTION_SIZE - 1, surface - baseY);
+                // Section index is (y * 16 + z) * 16 + x, and column is z * 16 + x.
+                for (int y = 0; y <= top; y++) {
+                    blocks[y * layer + column] = (byte) terrainBlock(baseY + y, surface);
+                }
+            }
+            section.recountRandomTickable();
+        }
+    }
+
+    public PerlinNoise getNoise() {
+        return noise;
+    }
+
+    @Override
+    public String getName() {
+        return noise instanceof VectorPerlinNoise ? "java-vector" : "java-scalar";
+    }
+}
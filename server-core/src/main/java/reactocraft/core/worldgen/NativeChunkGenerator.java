@@ -0,0 +1,59 @@
+package reactocraft.core.worldgen;
+
+import com.sun.jna.Pointer;
+import com.sun.jna.ptr.IntByReference;
+import reactocraft.core.chunk.FullChunk;
+
+/**
+ * Generates chunks through the Rust {@code worldgen} library, or anything else exposing {@link IWorldGen}.
+ */
+public class NativeChunkGenerator implements ChunkGenerator {
+
+    private final IWorldGen worldGen;
+
+    public NativeChunkGenerator(IWorldGen worldGen) {
+        this.worldGen = worldGen;
+    }
+
+    @Override
+    public void generate(FullChunk chunk, WorldType type) {
+        IntByReference lenRef = new IntByReference();
+        Pointer ptr = type == WorldType.FLAT
+                ? worldGen.generate_flat_chunk(chunk.getChunkX(), chunk.getChunkZ(), lenRef)
+                : worldGen.generate_chunk(chunk.getChunkX(), chunk.getChunkZ(), lenRef);
+        byte[] chunkData = ptr.getByteArray(0, lenRef.getValue());
+        worldGen.free_buffer(ptr, lenRef.getValue());
+
+        int size = FullChunk.CHUNK_SIZE;
+        if (type == WorldType.FLAT) {
+            int height = FullChunk.HEIGHT;
+            for (int y = 0; y < height; y++) {
+                for (int z = 0; z < size; z++) {
+                    for (int x = 0; x < size; x++) {
+                        int index = y * size * size + z * size + x;
+                        if (index >= chunkData.length) continue;
+                        int blockId = chunkData[index] & 0xFF;
+                        chunk.setBlock(x, y, z, blockId);
+                    }
+                }
+            }
+        } else {
+            // The native terrain generator returns a heightmap rather than blocks.
+            for (int z = 0; z < size; z++) {
+                for (int x = 0; x < size; x++) {
+                    int index = z * size + x;
+                    if (index >= chunkData.length) continue;
+                    int surface = Math.min(chunkData[index] & 0xFF, FullChunk.HEIGHT - 1);
+                    for (int y = 0; y <= surface; y++) {
+                        chunk.setBlock(x, y, z, JavaChunkGenerator.terrainBlock(y, surface));
+                    }
+                }
+            }
+        }
+    }
+
+    @Override
+    public String getName() {
+        return "native";
+    }
+}
@@ -0,0 +1,72 @@
+package reactocraft.core.worldgen;
+
+import java.util.SplittableRandom;
+
+/**
+ * 2D gradient noise in the style of Ken Perlin's improved noise, returning values in
+ * [-0.5, 0.5]. Seeded through a shuffled permutation table; it does not reproduce
+ * the Rust {@code noise} crate bit for bit.
+ */
+public class PerlinNoise {
+
+    // Doubled so lookups of perm[a + b] never need to wrap.
+    final int[] perm = new int[512];
+
+    public PerlinNoise(long seed) {
+        int[] p = new int[256];
+        for (int i = 0; i < 256; i++) {
+            p[i] = i;
+        }
+        SplittableRandom random = new SplittableRandom(seed);
+        for (int i = 255; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int tmp = p[i];
+            p[i] = p[j];
+            p[j] = tmp;
+        }
+        for (int i = 0; i < 512; i++) {
+            perm[i] = p[i & 255];
+        }
+    }
+
+    static float fade(float t) {
+        return t * t * t * (t * (t * 6 - 15) + 10);
+    }
+
+    static float lerp(float t, float a, float b) {
+        return a + t * (b - a);
+    }
+
+    static float grad(int hash, float x, float z) {
+        return ((hash & 1) == 0 ? x : -x) + ((hash & 2) == 0 ? z : -z);
+    }
+
+    public float sample(double x, double z) {
+        double floorX = Math.floor(x);
+        double floorZ = Math.floor(z);
+        int xi = (int) floorX & 255;
+        int zi = (int) floorZ & 255;
+        float xf = (float) (x - floorX);
+        float zf = (float) (z - floorZ);
+        float u = fade(xf);
+        float v = fade(zf);
+
+        int px0 = perm[xi];
+        int px1 = perm[xi + 1];
+        float lower = lerp(u, grad(perm[px0 + zi], xf, zf), grad(perm[px1 + zi], xf - 1, zf));
+        float upper = lerp(u, grad(perm[px0 + zi + 1], xf, zf - 1), grad(perm[px1 + zi + 1], xf - 1, zf - 1));
+        return lerp(v, lower, upper) * 0.5f;
+    }
+
+    /**
+     * Samples a 16x16 grid starting at world block ({@code blockX}, {@code blockZ}) into
+     * {@code out[z * 16 + x]}. The vectorised subclass overrides this.
+     */
+    public void sampleChunk(int blockX, int blockZ, double scale, float[] out) {
+        for (int z = 0; z < 16; z++) {
+            for (int x = 0; x < 16; x++) {
+                out[z * 16 + x] = sample((blockX + x) * scale, (blockZ + z) * scale);
+            }
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package reactocraft.core.worldgen;
+
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * {@link PerlinNoise} with the per-row work of {@link #sampleChunk} done in SIMD lanes.
+ * Column-only terms (lattice cell, fraction, fade, first permutation lookup) are computed
+ * once per chunk; each row then needs only two gathers per corner pair and lane-wise math.
+ *
+ * <p>Only load this class when the {@code jdk.incubator.vector} module is present.
+ */
+public class VectorPerlinNoise extends PerlinNoise {
+
+    private static final VectorSpecies<Float> FLOATS = FloatVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Integer> INTS = FLOATS.withLanes(int.class);
+
+    public VectorPerlinNoise(long seed) {
+        super(seed);
+    }
+
+    @Override
+    public void sampleChunk(int blockX, int blockZ, double scale, float[] out) {
+        int[] px0 = new int[16];
+        int[] px1 = new int[16];
+        float[] xf = new float[16];
+        float[] xf1 = new float[16];
+        float[] u = new float[16];
+        for (int x = 0; x < 16; x++) {
+            double sx = (blockX + x) * scale;
+            double floorX = Math.floor(sx);
+            int xi = (int) floorX & 255;
+            px0[x] = perm[xi];
+            px1[x] = perm[xi + 1];
+            xf[x] = (float) (sx - floorX);
+            xf1[x] = xf[x] - 1;
+            u[x] = fade(xf[x]);
+        }
+
+        int bound = FLOATS.loopBound(16);
+        for (int z = 0; z < 16; z++) {
+            double sz = (blockZ + z) * scale;
+            double floorZ = Math.floor(sz);
+            int zi = (int) floorZ & 255;
+            float zf = (float) (sz - floorZ);
+            float zf1 = zf - 1;
+            float v = fade(zf);
+
+            int x = 0;
+            for (; x < bound; x += FLOATS.length()) {
+                FloatVector fx = FloatVector.fromArray(FLOATS, xf, x);
+                FloatVector fx1 = FloatVector.fromArray(FLOATS, xf1, x);
+                FloatVector fu = FloatVector.fromArray(FLOATS, u, x);
+
+                // perm[zi + px[x + lane]] for the four corners of each lane's cell.
+                IntVector aa = IntVector.fromArray(INTS, perm, zi, px0, x);
+                IntVector ba = IntVector.fromArray(INTS, perm, zi, px1, x);
+                IntVector ab = IntVector.fromArray(INTS, perm, zi + 1, px0, x);
+                IntVector bb = IntVector.fromArray(INTS, perm, zi + 1, px1, x);
+
+                FloatVector lower = lerp(fu, grad(aa, fx, zf), grad(ba, fx1, zf));
+                FloatVector upper = lerp(fu, grad(ab, fx, zf1), grad(bb, fx1, zf1));
+                lerp(FloatVector.broadcast(FLOATS, v), lower, upper)
+                        .mul(0.5f)
+                        .intoArray(out, z * 16 + x);
+            }
+            for (; x < 16; x++) {
+                float lower = lerp(u[x], grad(perm[px0[x] + zi], xf[x], zf), grad(perm[px1[x] + zi], xf1[x], zf));
+                float upper = lerp(u[x], grad(perm[px0[x] + zi + 1], xf[x], zf1), grad(perm[px1[x] + zi + 1], xf1[x], zf1));
+                out[z * 16 + x] = lerp(v, lower, upper) * 0.5f;
+            }
+        }
+    }
+
+    private static FloatVector lerp(FloatVector t, FloatVector a, FloatVector b) {
+        // Same operation order as the scalar lerp (no fma) so both paths give identical terrain.
+        return b.sub(a).mul(t).add(a);
+    }
+
+    // Flips the sign of x and z by xor-ing bit 0 and bit 1 of the hash into the float sign bit.
+    private static FloatVector grad(IntVector hash, FloatVector x, float z) {
+        IntVector signX = hash.and(1).lanewise(VectorOperators.LSHL, 31);
+        IntVector signZ = hash.and(2).lanewise(VectorOperators.LSHL, 30);
+        FloatVector gx = x.reinterpretAsInts().lanewise(VectorOperators.XOR, signX).reinterpretAsFloats();
+        FloatVector gz = FloatVector.broadcast(FLOATS, z).reinterpretAsInts()
+                .lanewise(VectorOperators.XOR, signZ).reinterpretAsFloats();
+        return gx.add(gz);
+    }
+}
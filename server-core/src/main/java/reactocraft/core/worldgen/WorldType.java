@@ -0,0 +1,6 @@
+package reactocraft.core.worldgen;
+
+public enum WorldType {
+    FLAT,
+    NOISE
+}
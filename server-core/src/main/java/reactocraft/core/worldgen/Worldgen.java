@@ -1,35 +1,109 @@
 package reactocraft.core.worldgen;
 
-import com.sun.jna.Pointer;
-import com.sun.jna.ptr.IntByReference;
+import reactocraft.core.chunk.ChunkPos;
 import reactocraft.core.chunk.FullChunk;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 import reactor.core.scheduler.Schedulers;
 
+import java.util.Collection;
+
 public class Worldgen {
-    public static Mono<FullChunk> generateChunkAsync(int chunkX, int chunkZ) {
-        return Mono.fromCallable(() -> {
-            IntByReference lenRef = new IntByReference();
-            Pointer ptr = IWorldGen.INSTANCE.generate_flat_chunk(chunkX, chunkZ, lenRef);
-            byte[] chunkData = ptr.getByteArray(0, lenRef.getValue());
+    private static final String GENERATOR_PROPERTY = "reactocraft.worldgen";
+    private static final long DEFAULT_SEED = 0L;
 
-            FullChunk fullChunk = new FullChunk(chunkX, chunkZ);
-            int size = FullChunk.CHUNK_SIZE;
-            int height = FullChunk.HEIGHT;
-
-            for (int y = 0; y < height; y++) {
-                for (int z = 0; z < size; z++) {
-                    for (int x = 0; x < size; x++) {
-                        int index = y * size * size + z * size + x;
-                        if (index >= chunkData.length) continue;
-                        int blockId = chunkData[index] & 0xFF;
-                        fullChunk.setBlock(x, y, z, blockId);
-                    }
+    private static volatile ChunkGenerator generator;
+    private static volatile ChunkGenerator override;
+
+    public static ChunkGenerator getGenerator() {
+        ChunkGenerator current = generator;
+        if (current == null) {
+            synchronized (Worldgen.class) {
+                if (generator == null) {
+                    generator = selectGenerator(System.getProperty(GENERATOR_PROPERTY, "auto"));
+                    System.out.println("Using " + generator.getName() + " world generator");
                 }
+                current = generator;
             }
+        }
+        return current;
+    }
+
+    /**
+     * Replaces the process-wide generator. Worlds created afterwards without a generator of
+     * their own use it too instead of getting a seeded one.
+     */
+    public static void setGenerator(ChunkGenerator chunkGenerator) {
+        generator = chunkGenerator;
+        override = chunkGenerator;
+    }
+
+    /**
+     * Generator for a new world: the one passed to {@link #setGenerator} if any, otherwise a
+     * fresh one picked like {@link #getGenerator()} and seeded with {@code seed}.
+     */
+    public static ChunkGenerator createGenerator(long seed) {
+        ChunkGenerator fixed = override;
+        return fixed != null ? fixed : selectGenerator(System.getProperty(GENERATOR_PROPERTY, "auto"), seed);
+    }
+
+    public static ChunkGenerator selectGenerator(String name) {
+        return selectGenerator(name, DEFAULT_SEED);
+    }
 
-            IWorldGen.INSTANCE.free_buffer(ptr, lenRef.getValue());
+    /**
+     * Picks a generator by name: {@code native}, {@code java}, or {@code auto}, which
+     * prefers the native library and falls back to Java when it cannot be loaded.
+     * The native library takes no seed, so only Java terrain varies with {@code seed}.
+     */
+    public static ChunkGenerator selectGenerator(String name, long seed) {
+        switch (name) {
+            case "native":
+                return new NativeChunkGenerator(IWorldGen.INSTANCE);
+            case "java":
+                return new JavaChunkGenerator(seed);
+            case "auto":
+                try {
+                    return new NativeChunkGenerator(IWorldGen.INSTANCE);
+                } catch (LinkageError e) {
+                    // UnsatisfiedLinkError on first touch, NoClassDefFoundError after that.
+                    System.err.println("Native worldgen unavailable (" + e.getMessage() + "), falling back to Java");
+                    return new JavaChunkGenerator(seed);
+                }
+            default:
+                throw new IllegalArgumentException("Unknown world generator: " + name);
+        }
+    }
+
+    public static Mono<FullChunk> generateChunkAsync(int chunkX, int chunkZ) {
+        return generateChunkAsync(chunkX, chunkZ, WorldType.FLAT);
+    }
+
+    public static Mono<FullChunk> generateChunkAsync(int chunkX, int chunkZ, WorldType type) {
+        return Mono.defer(() -> generateChunkAsync(chunkX, chunkZ, type, getGenerator(), Schedulers.parallel()));
+    }
+
+    /**
+     * Generates with a specific generator on a specific scheduler, e.g. a world's own generator
+     * on the worker pool of the shard that will own the chunk.
+     */
+    public static Mono<FullChunk> generateChunkAsync(int chunkX, int chunkZ, WorldType type,
+                                                     ChunkGenerator chunkGenerator, Scheduler scheduler) {
+        return Mono.fromCallable(() -> {
+            FullChunk fullChunk = new FullChunk(chunkX, chunkZ);
+            chunkGenerator.generate(fullChunk, type);
             return fullChunk;
-        }).subscribeOn(Schedulers.boundedElastic());
+        }).subscribeOn(scheduler);
+    }
+
+    /**
+     * Generates a batch of chunks with {@code chunkGenerator}, spread over the parallel
+     * scheduler one chunk per task. Results arrive in completion order.
+     */
+    public static Flux<FullChunk> generateChunksAsync(Collection<ChunkPos> positions, WorldType type,
+                                                      ChunkGenerator chunkGenerator) {
+        return Flux.fromIterable(positions)
+                .flatMap(pos -> generateChunkAsync(pos.x(), pos.z(), type, chunkGenerator, Schedulers.parallel()));
     }
 }
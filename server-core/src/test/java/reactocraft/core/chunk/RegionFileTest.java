@@ -0,0 +1,89 @@
+package reactocraft.core.chunk;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RegionFileTest {
+
+    @TempDir
+    Path dir;
+
+    private static FullChunk sampleChunk(int chunkX, int chunkZ) {
+        FullChunk chunk = new FullChunk(chunkX, chunkZ);
+        chunk.setBlock(0, 0, 0, 1);
+        chunk.setBlock(15, 63, 15, 7);
+        chunk.setBlock(3, 20, 9, 42);
+        return chunk;
+    }
+
+    @Test
+    void writtenSlotReadsBackAfterReopening() throws IOException {
+        File path = dir.resolve("r.-1.0.reg").toFile();
+        FullChunk written = sampleChunk(-3, 5);
+
+        RegionFile region = new RegionFile(path);
+        region.writeChunk(written);
+        region.close();
+
+        RegionFile reopened = new RegionFile(path);
+        FullChunk read = reopened.readChunk(-3, 5);
+        assertNotNull(read);
+        assertEquals(-3, read.getChunkX());
+        assertEquals(5, read.getChunkZ());
+        assertArrayEquals(written.getRawData(), read.getRawData());
+        reopened.close();
+    }
+
+    @Test
+    void absentSlotReadsAsNull() throws IOException {
+        RegionFile region = new RegionFile(dir.resolve("r.0.0.reg").toFile());
+        region.writeChunk(sampleChunk(1, 1));
+
+        assertFalse(region.hasChunk(2, 1));
+        assertNull(region.readChunk(2, 1));
+        region.close();
+    }
+
+    @Test
+    void slotOfAnotherChunkReadsAsNull() throws IOException {
+        RegionFile region = new RegionFile(dir.resolve("r.0.0.reg").toFile());
+        region.writeChunk(sampleChunk(1, 2));
+
+        // Same local slot, one region further east.
+        assertNull(region.readChunk(1 + RegionFile.REGION_SIZE, 2));
+        region.close();
+    }
+
+    @Test
+    void slotWithCorruptBlocksReadsAsNull() throws IOException {
+        File path = dir.resolve("r.0.0.reg").toFile();
+        RegionFile region = new RegionFile(path);
+        region.writeChunk(sampleChunk(0, 0));
+        region.close();
+
+        try (RandomAccessFile raw = new RandomAccessFile(path, "rw")) {
+            // Slot 0 starts the file; flip the first block byte just past the header.
+            raw.seek(5 * Integer.BYTES);
+            int original = raw.read();
+            raw.seek(5 * Integer.BYTES);
+            raw.write(original ^ 0xFF);
+        }
+
+        RegionFile reopened = new RegionFile(path);
+        assertTrue(reopened.hasChunk(0, 0));
+        assertNull(reopened.readChunk(0, 0));
+        reopened.close();
+    }
+}
@@ -0,0 +1,132 @@
+package reactocraft.core.tick;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import reactocraft.core.chunk.ChunkManager;
+import reactocraft.core.chunk.FullChunk;
+import reactocraft.core.world.WorldConfig;
+import reactocraft.core.worldgen.ChunkGenerator;
+import reactocraft.core.worldgen.WorldType;
+
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+class BlockTickSchedulerTest {
+
+    private static final int SPREADING = 240;
+    private static final int SETTLING = 241;
+    private static final int SETTLED = 242;
+    private static final int RADIUS = 6;
+    private static final int TICKS = 60;
+
+    @TempDir
+    Path tempDir;
+
+    /**
+     * A block that spreads into empty neighbours on random ticks, across chunk and region
+     * borders, and leaves behind a block that settles through a scheduled tick.
+     */
+    @BeforeAll
+    static void registerBlocks() {
+        BlockTickRegistry.register(SPREADING, new BlockTickHandler() {
+            @Override
+            public void onRandomTick(TickContext ctx, int x, int y, int z, SplittableRandom random) {
+                int nx = x + random.nextInt(3) - 1;
+                int nz = z + random.nextInt(3) - 1;
+                if (ctx.getBlock(nx, y, nz) == 0) {
+                    ctx.setBlock(nx, y, nz, SPREADING);
+                    ctx.setBlock(x, y, z, SETTLING);
+                    ctx.scheduleTick(x, y, z, SETTLING, 1 + random.nextInt(5), 0);
+                }
+            }
+        }, true);
+        BlockTickRegistry.register(SETTLING, new BlockTickHandler() {
+            @Override
+            public void onScheduledTick(TickContext ctx, int x, int y, int z) {
+                ctx.setBlock(x, y, z, SETTLED);
+            }
+        }, false);
+    }
+
+    @Test
+    void ticksAreReproducibleAcrossRunsAndShardCounts() {
+        byte[] single = run(tempDir.resolve("single"), 1);
+        byte[] again = run(tempDir.resolve("again"), 1);
+        byte[] sharded = run(tempDir.resolve("sharded"), 4);
+
+        assertArrayEquals(single, again);
+        assertArrayEquals(single, sharded);
+        assertNotEquals(0, countChanged(single), "the world should have changed");
+    }
+
+    private byte[] run(Path root, int shards) {
+        ChunkManager manager = new ChunkManager(WorldConfig.builder("tick-test")
+                .storageRoot(root)
+                .seed(1234L)
+                .generator(new SeedGenerator())
+                // Hashed shards can be uneven; keep every chunk loaded whatever the split.
+                .maxLoadedChunks(4096)
+                .shards(shards)
+                .build());
+        try {
+            for (int cx = -RADIUS; cx < RADIUS; cx++) {
+                for (int cz = -RADIUS; cz < RADIUS; cz++) {
+                    manager.getChunk(cx, cz).block();
+                }
+            }
+            for (int i = 0; i < TICKS; i++) {
+                manager.getTickScheduler().tick().block();
+            }
+
+            int chunkBytes = FullChunk.CHUNK_SIZE * FullChunk.CHUNK_SIZE * FullChunk.HEIGHT;
+            byte[] world = new byte[4 * RADIUS * RADIUS * chunkBytes];
+            int offset = 0;
+            for (int cx = -RADIUS; cx < RADIUS; cx++) {
+                for (int cz = -RADIUS; cz < RADIUS; cz++) {
+                    byte[] data = manager.getLoadedChunk(cx, cz).getRawData();
+                    System.arraycopy(data, 0, world, offset, data.length);
+                    offset += data.length;
+                }
+            }
+            return world;
+        } finally {
+            manager.close();
+        }
+    }
+
+    private static int countChanged(byte[] world) {
+        int changed = 0;
+        for (byte b : world) {
+            if (Byte.toUnsignedInt(b) == SETTLED) changed++;
+        }
+        return changed;
+    }
+
+    /**
+     * Fills the bottom section in a checkerboard, so random ticks hit often and half the
+     * neighbours are free to spread into.
+     */
+    private static class SeedGenerator implements ChunkGenerator {
+        @Override
+        public void generate(FullChunk chunk, WorldType type) {
+            for (int y = 0; y < 16; y++) {
+                for (int z = 0; z < 16; z++) {
+                    for (int x = 0; x < 16; x++) {
+                        if (((x + y + z) & 1) == 0) {
+                            chunk.setBlock(x, y, z, SPREADING);
+                        }
+                    }
+                }
+            }
+        }
+
+        @Override
+        public String getName() {
+            return "test";
+        }
+    }
+}
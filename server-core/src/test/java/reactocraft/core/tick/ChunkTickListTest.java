@@ -0,0 +1,86 @@
+package reactocraft.core.tick;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ChunkTickListTest {
+
+    @Test
+    void drainsByDueTickThenPriorityThenInsertion() {
+        ChunkTickList list = new ChunkTickList();
+        list.schedule(0, 0, 0, 1, 5, 0);
+        list.schedule(1, 0, 0, 1, 3, 2);
+        list.schedule(2, 0, 0, 1, 3, -1);
+        list.schedule(3, 0, 0, 1, 3, 2);
+        list.schedule(4, 0, 0, 1, 4, 0);
+
+        List<ScheduledTick> due = new ArrayList<>();
+        list.drainDue(5, due);
+
+        assertEquals(List.of(2, 1, 3, 4, 0), due.stream().map(ScheduledTick::x).toList());
+    }
+
+    @Test
+    void leavesTicksThatAreNotDueYet() {
+        ChunkTickList list = new ChunkTickList();
+        list.schedule(0, 0, 0, 1, 10, 0);
+        list.schedule(1, 0, 0, 1, 11, 0);
+
+        List<ScheduledTick> due = new ArrayList<>();
+        list.drainDue(9, due);
+        assertTrue(due.isEmpty());
+
+        list.drainDue(10, due);
+        assertEquals(1, due.size());
+        assertEquals(0, due.get(0).x());
+        assertEquals(1, list.size());
+    }
+
+    @Test
+    void rejectsDuplicateUntilDrained() {
+        ChunkTickList list = new ChunkTickList();
+        assertTrue(list.schedule(1, 2, 3, 7, 5, 0));
+        assertFalse(list.schedule(1, 2, 3, 7, 2, -5));
+        // Same position with another block id is a separate tick.
+        assertTrue(list.schedule(1, 2, 3, 8, 5, 0));
+        assertEquals(2, list.size());
+
+        list.drainDue(5, new ArrayList<>());
+        assertTrue(list.schedule(1, 2, 3, 7, 9, 0));
+    }
+
+    @Test
+    void snapshotIsInDrainOrderAndLeavesTicksQueued() {
+        ChunkTickList list = new ChunkTickList();
+        list.schedule(0, 0, 0, 1, 7, 0);
+        list.schedule(1, 0, 0, 1, 2, 0);
+        list.schedule(2, 0, 0, 1, 2, -1);
+
+        assertEquals(List.of(2, 1, 0), list.snapshot().stream().map(ScheduledTick::x).toList());
+        assertEquals(3, list.size());
+    }
+
+    @Test
+    void versionChangesOnlyWhenTicksAreAddedOrDrained() {
+        ChunkTickList list = new ChunkTickList();
+        long initial = list.getVersion();
+
+        list.schedule(0, 0, 0, 1, 3, 0);
+        long scheduled = list.getVersion();
+        assertTrue(scheduled != initial);
+
+        list.schedule(0, 0, 0, 1, 4, 0);
+        list.snapshot();
+        list.drainDue(2, new ArrayList<>());
+        assertEquals(scheduled, list.getVersion());
+
+        list.drainDue(3, new ArrayList<>());
+        assertTrue(list.getVersion() != scheduled);
+    }
+}
@@ -0,0 +1,89 @@
+package reactocraft.core.view;
+
+import org.junit.jupiter.api.Test;
+import reactocraft.core.chunk.ChunkPos;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ViewDistanceManagerTest {
+
+    @Test
+    void spiralIndexNumbersEachOffsetOnceRingByRing() {
+        int radius = 5;
+        int side = 2 * radius + 1;
+        boolean[] seen = new boolean[side * side];
+        for (int dx = -radius; dx <= radius; dx++) {
+            for (int dz = -radius; dz <= radius; dz++) {
+                int index = ViewDistanceManager.spiralIndex(dx, dz);
+                int ring = Math.max(Math.abs(dx), Math.abs(dz));
+                int inner = (2 * ring - 1) * (2 * ring - 1);
+
+                assertTrue(index >= (ring == 0 ? 0 : inner) && index < (2 * ring + 1) * (2 * ring + 1),
+                        "offset " + dx + "," + dz + " is outside its ring: " + index);
+                assertTrue(!seen[index], "index " + index + " used twice");
+                seen[index] = true;
+            }
+        }
+    }
+
+    @Test
+    void spiralIndexWalksAdjacentCells() {
+        int radius = 4;
+        int side = 2 * radius + 1;
+        int[][] byIndex = new int[side * side][];
+        for (int dx = -radius; dx <= radius; dx++) {
+            for (int dz = -radius; dz <= radius; dz++) {
+                byIndex[ViewDistanceManager.spiralIndex(dx, dz)] = new int[]{dx, dz};
+            }
+        }
+        for (int i = 1; i < byIndex.length; i++) {
+            int[] a = byIndex[i - 1];
+            int[] b = byIndex[i];
+            // Steps are to a neighbour, allowing the diagonal hop from one ring to the next.
+            assertTrue(Math.abs(a[0] - b[0]) <= 1 && Math.abs(a[1] - b[1]) <= 1,
+                    "jump between " + (i - 1) + " and " + i);
+        }
+    }
+
+    @Test
+    void differenceMatchesBruteForce() {
+        SplittableRandom random = new SplittableRandom(7);
+        for (int i = 0; i < 2000; i++) {
+            int ax = random.nextInt(-20, 20), az = random.nextInt(-20, 20), ar = random.nextInt(0, 8);
+            int bx = random.nextInt(-20, 20), bz = random.nextInt(-20, 20), br = random.nextInt(0, 8);
+
+            List<ChunkPos> out = new ArrayList<>();
+            ViewDistanceManager.difference(ax, az, ar, bx, bz, br, out);
+
+            Set<ChunkPos> expected = new HashSet<>();
+            for (int x = ax - ar; x <= ax + ar; x++) {
+                for (int z = az - ar; z <= az + ar; z++) {
+                    if (Math.abs(x - bx) > br || Math.abs(z - bz) > br) {
+                        expected.add(new ChunkPos(x, z));
+                    }
+                }
+            }
+            assertEquals(expected.size(), out.size(), "duplicates in difference");
+            assertEquals(expected, new HashSet<>(out));
+        }
+    }
+
+    @Test
+    void oneChunkStepEntersOneStrip() {
+        int radius = 8;
+        List<ChunkPos> entering = new ArrayList<>();
+        ViewDistanceManager.difference(1, 0, radius, 0, 0, radius, entering);
+
+        assertEquals(2 * radius + 1, entering.size());
+        for (ChunkPos pos : entering) {
+            assertEquals(1 + radius, pos.x());
+        }
+    }
+}
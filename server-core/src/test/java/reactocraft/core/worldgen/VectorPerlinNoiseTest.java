@@ -0,0 +1,34 @@
+package reactocraft.core.worldgen;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+class VectorPerlinNoiseTest {
+
+    private static final long[] SEEDS = {0L, 1L, 42L, -7L, 0x5DEECE66DL};
+    private static final double[] SCALES = {0.05, 0.013, 1.0};
+    // Chunk origins in blocks, including negative ones and ones far enough out that
+    // the lattice index wraps past 255 at every scale above.
+    private static final int[][] ORIGINS = {
+            {0, 0}, {16, -16}, {-16, -32}, {-4096, 2048}, {5120, 5120}, {-5136, 12288}, {29_999_984, -29_999_984}
+    };
+
+    @Test
+    void vectorPathMatchesScalarPathExactly() {
+        float[] scalar = new float[256];
+        float[] vector = new float[256];
+        for (long seed : SEEDS) {
+            PerlinNoise reference = new PerlinNoise(seed);
+            VectorPerlinNoise vectorised = new VectorPerlinNoise(seed);
+            for (double scale : SCALES) {
+                for (int[] origin : ORIGINS) {
+                    reference.sampleChunk(origin[0], origin[1], scale, scalar);
+                    vectorised.sampleChunk(origin[0], origin[1], scale, vector);
+                    assertArrayEquals(scalar, vector,
+                            "seed " + seed + ", scale " + scale + ", origin " + origin[0] + "," + origin[1]);
+                }
+            }
+        }
+    }
+}
@@ -2,4 +2,5 @@ rootProject.name = "ReactoCraft"
 include("server-core")
 include("protocol")
 include("plugins-api")
-include("run-server")
\ No newline at end of file
+include("run-server")
+include("load-test")
\ No newline at end of file